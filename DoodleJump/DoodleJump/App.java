@@ -3,26 +3,55 @@ package DoodleJump;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import javafx.scene.Scene;
+import java.lang.management.ManagementFactory;
 
 /**
 The uppermost class in the application, the App class handles the creation of the scene/stage (as is typical) and
-instantiates the program's top-level class PaneOrganizer. The only potentially unconventional configuration to note
-is the passing of the App and stage instances to the instance of PaneOrganizer - this relationship exists to
-enable a full game reset button in PaneOrganizer to call the App class' start(Stage stage) method on action.
+instantiates the program's top-level class PaneOrganizer. Another round is started in place by the PaneOrganizer, so
+start(Stage stage) only runs once.
+
+Starting sets the AssetPreloader decoding every image in the background, and logs how long it took to get the first
+frame laid out, both from the launch of the JVM and from the start of this method.
  */
 public class App extends Application {
 
 	@Override
 	public void start(Stage stage) {
-		PaneOrganizer organizer = new PaneOrganizer(this, stage);
+		long startTime = System.nanoTime();
+		AssetPreloader.start();
+		PaneOrganizer organizer = new PaneOrganizer();
 		Scene scene = new Scene(organizer.getRoot(), Constants.SCENE_WIDTH,
 				Constants.SCENE_HEIGHT);
 		stage.setScene(scene);
 		stage.setTitle("Doodle Jump");
 		stage.setResizable(false);
+		scene.addPostLayoutPulseListener(new FirstFrameLogger(scene, startTime));
 		stage.show();
 	}
 
+	/**
+	Logs the time to the first frame, once the scene's first pulse has been laid out, then unhooks itself.
+	*/
+	private class FirstFrameLogger implements Runnable {
+		private Scene _scene;
+		private long _startTime;
+
+		/**
+		Constructor that records the scene to watch and when App.start began.
+		*/
+		public FirstFrameLogger(Scene scene, long startTime) {
+			_scene = scene;
+			_startTime = startTime;
+		}
+
+		@Override
+		public void run() {
+			_scene.removePostLayoutPulseListener(this);
+			System.out.println(String.format("First frame %d ms after launch, %.1f ms after App.start",
+					ManagementFactory.getRuntimeMXBean().getUptime(), (System.nanoTime() - _startTime) / 1e6));
+		}
+	}
+
 /**
 The main line, this method enables the execution of the application's code.
 */
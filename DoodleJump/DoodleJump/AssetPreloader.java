@@ -0,0 +1,177 @@
+package DoodleJump;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+AssetPreloader decodes every image the game shows on a pool of background threads, one per core, as soon as the app
+starts - the sprites of the SpriteAtlas (after which it builds the atlas itself) and the backgrounds and overlays held
+by the SpriteCache, including the space background, the pause and play icons and the rest that used to be decoded the
+first time a rocket, a monster or a key press needed them. Decoding runs while the keyboard hint fades in, so by the
+time the game starts nothing is left to decode on the JavaFX thread; if the game asks for an image before its decode is
+done, it waits for that decode rather than starting another (see SpriteCache and SpriteAtlas).
+
+Progress is reported on the JavaFX thread after each image, to the handler set with setOnProgress, and a summary is
+printed once everything is decoded.
+*/
+public class AssetPreloader {
+	private static final String[] CACHED_IMAGES = { "Images/graphpaper.jpeg", "Images/redx.png", "Images/kb.png",
+			"Images/space.jpg", "Images/paused.png", "Images/play.png" };
+	private static final ProgressReporter REPORTER = new ProgressReporter();
+
+	private static ExecutorService _executor = null;
+	private static int _threads = 0;
+	private static int _total = 0;
+	private static AtomicInteger _done = new AtomicInteger();
+	private static long _startTime = 0;
+	private static volatile long _elapsed = -1;
+	private static Runnable _onProgress = null;
+
+	/**
+	The preloader is purely static - there is never a reason to instantiate it.
+	*/
+	private AssetPreloader() {
+	}
+
+	/**
+	Starts decoding every image in the background, unless that has already been started. The atlas sprites come first,
+	as the doodle and the first platforms need them at once, then the atlas itself, then the cached images in the order
+	the game first shows them. Called on the JavaFX thread.
+	*/
+	public static void start() {
+		if (_executor != null) {
+			return;
+		}
+		String[] sprites = SpriteAtlas.getSpritePaths();
+		_threads = Runtime.getRuntime().availableProcessors();
+		_total = sprites.length + 1 + CACHED_IMAGES.length;
+		_startTime = System.nanoTime();
+		_executor = Executors.newFixedThreadPool(_threads, new DaemonThreadFactory());
+		for (String path : sprites) {
+			_executor.execute(new Decode("ATLAS_SPRITE", path));
+		}
+		_executor.execute(new Decode("ATLAS", null));
+		for (String path : CACHED_IMAGES) {
+			_executor.execute(new Decode("CACHED", path));
+		}
+		_executor.shutdown();
+	}
+
+	/**
+	Sets the handler run on the JavaFX thread each time another image has been decoded.
+	*/
+	public static void setOnProgress(Runnable onProgress) {
+		_onProgress = onProgress;
+	}
+
+	/**
+	Accessor method that returns the number of images (counting the atlas as one) decoded so far.
+	*/
+	public static int getDone() {
+		return _done.get();
+	}
+
+	/**
+	Accessor method that returns the number of images (counting the atlas as one) to decode.
+	*/
+	public static int getTotal() {
+		return _total;
+	}
+
+	/**
+	Accessor method that returns whether every image has been decoded.
+	*/
+	public static boolean isDone() {
+		return _elapsed >= 0;
+	}
+
+	/**
+	Returns a one line summary of the preloading.
+	*/
+	public static String getReport() {
+		if (_elapsed < 0) {
+			return "AssetPreloader: " + _done.get() + " of " + _total + " images decoded";
+		}
+		return "AssetPreloader: " + _total + " images decoded on " + _threads + " threads in "
+				+ String.format("%.1f", _elapsed / 1e6) + " ms";
+	}
+
+	/**
+	Counts a finished image and reports the progress on the JavaFX thread.
+	*/
+	private static void finished() {
+		if (_done.incrementAndGet() == _total) {
+			_elapsed = System.nanoTime() - _startTime;
+		}
+		javafx.application.Platform.runLater(REPORTER);
+	}
+
+	/**
+	Decodes one image: a sprite of the atlas, the atlas itself or an image of the SpriteCache. A failure is reported
+	and counted as finished, so progress still completes; the game meets the same error when it asks for the image.
+	*/
+	private static class Decode implements Runnable {
+		private String _kind;
+		private String _path;
+
+		/**
+		Constructor that records the kind of image and its resource path.
+		*/
+		public Decode(String kind, String path) {
+			_kind = kind;
+			_path = path;
+		}
+
+		@Override
+		public void run() {
+			try {
+				if (_kind == "ATLAS_SPRITE") {
+					SpriteAtlas.preload(_path);
+				} else if (_kind == "ATLAS") {
+					SpriteAtlas.prepare();
+				} else {
+					SpriteCache.preload(_path);
+				}
+			} catch (RuntimeException e) {
+				System.err.println("Could not preload " + (_path == null ? "the sprite atlas" : _path) + ": "
+						+ e.getMessage());
+			}
+			AssetPreloader.finished();
+		}
+	}
+
+	/**
+	Runs the progress handler on the JavaFX thread, and prints the summary once everything is decoded.
+	*/
+	private static class ProgressReporter implements Runnable {
+		private boolean _reported;
+
+		@Override
+		public void run() {
+			if (_onProgress != null) {
+				_onProgress.run();
+			}
+			if (AssetPreloader.isDone() && !_reported) {
+				_reported = true;
+				System.out.println(AssetPreloader.getReport());
+			}
+		}
+	}
+
+	/**
+	Makes the pool's threads daemons, so they never keep the app from exiting.
+	*/
+	private static class DaemonThreadFactory implements ThreadFactory {
+		private int _count;
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			_count = _count + 1;
+			Thread thread = new Thread(runnable, "asset-preloader-" + _count);
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
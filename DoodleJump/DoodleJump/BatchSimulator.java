@@ -0,0 +1,210 @@
+package DoodleJump;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+BatchSimulator plays a large batch of games headlessly, each steered by a SimpleBot, to show how a change to platform
+generation or to the hazard increments plays out over thousands of games instead of one. Run it with
+"java -cp <classes> DoodleJump.BatchSimulator [games] [tick limit] [first seed]"; it needs no display.
+
+Game i is seeded with the first seed plus i, so a batch is reproducible and any single game in it can be looked at again
+with -Ddoodle.seed. The games are spread over every core with a fork/join pool: the range of games is split in halves
+until each part is small enough to play on one thread, and each part totals its own BatchStats, which are merged as the
+parts join. Worlds share nothing, so the batch scales with the number of cores.
+
+Besides the heights reached and how games ended, the report gives the share of unreachable gaps - consecutive
+platforms the doodle cannot get from one to the other of, given the bounce of the lower one and how far the doodle can
+move sideways in the time it takes - and the hazard encounter rate, the share of hazards added that the doodle runs
+into. It ends with the throughput in simulated ticks per second.
+*/
+public class BatchSimulator {
+	private static final int GRAIN = 16; // games played by one task without splitting further
+	private static final double DT = 1.0 / Constants.PHYSICS_RATE;
+
+	/**
+	Plays the batch and prints its report.
+	*/
+	public static void main(String[] argv) {
+		int games = 10000;
+		long tickLimit = 100000;
+		long firstSeed = 0;
+		if (argv.length > 0) {
+			games = Integer.parseInt(argv[0]);
+		}
+		if (argv.length > 1) {
+			tickLimit = Long.parseLong(argv[1]);
+		}
+		if (argv.length > 2) {
+			firstSeed = Long.parseLong(argv[2]);
+		}
+		//One worker per core
+		ForkJoinPool pool = new ForkJoinPool();
+		long start = System.nanoTime();
+		BatchStats stats = pool.invoke(new Batch(firstSeed, firstSeed + games, tickLimit));
+		double seconds = (System.nanoTime() - start) / 1e9;
+		pool.shutdown();
+		System.out.println(String.format("%d games (seeds %d to %d, at most %d ticks each) on %d threads", games,
+				firstSeed, firstSeed + games - 1, tickLimit, pool.getParallelism()));
+		System.out.print(stats.getReport());
+		System.out.println(String.format("throughput %.0f ticks/s  %.0f games/s  (%.2f s)", stats.getTicks() / seconds,
+				stats.getGames() / seconds, seconds));
+	}
+
+	/**
+	Plays one game with the given seed until it ends or reaches the tick limit, adding its outcome to the stats.
+	*/
+	public static void play(long seed, long tickLimit, BatchStats stats) {
+		GameRecorder recorder = new GameRecorder(stats);
+		World world = new World(recorder, seed);
+		world.getPhaseTimer().setEnabled(false);
+		WorldInput input = new WorldInput();
+		while (world.getGameStatus() == "RUNNING" && world.getTick() < tickLimit) {
+			SimpleBot.steer(world, input);
+			world.step(DT, input);
+		}
+		stats.addGame(world.getScore(), world.getTick(), recorder.getCause());
+	}
+
+	/**
+	Returns whether the doodle, bouncing on a platform of the given type at (fromX, fromY), can land on a platform at
+	(toX, toY) - positions being upper left corners. The bounce must carry the doodle above the second platform, and
+	while it rises and falls back onto it the doodle must be able to cover the sideways distance, the short way around
+	the screen, less the slack the two platforms' widths and its own give.
+	*/
+	public static boolean isReachable(double fromX, double fromY, PlatformType fromType, double toX, double toY,
+			double width) {
+		double velocity = -Constants.REBOUND_VELOCITY * fromType.getReboundFactor();
+		double rise = fromY - toY;
+		if (rise > velocity * velocity / (2 * Constants.GRAVITY)) {
+			return false;
+		}
+		//Time until the doodle comes back down through the height of the second platform
+		double time = (velocity + Math.sqrt(velocity * velocity - 2 * Constants.GRAVITY * rise)) / Constants.GRAVITY;
+		double distance = Math.abs(toX - fromX);
+		distance = Math.min(distance, Constants.SCENE_WIDTH - distance);
+		double slack = width + Constants.CLASSIC_DOODLE_DIM;
+		return distance - slack <= Constants.LAT_PXL_INCR * Constants.PHYSICS_RATE * time;
+	}
+
+	/**
+	A fork/join task that plays the games seeded from (inclusive) to to (exclusive), splitting the range in two while it
+	is larger than GRAIN.
+	*/
+	private static class Batch extends RecursiveTask<BatchStats> {
+		private static final long serialVersionUID = 1L;
+
+		private long _from;
+		private long _to;
+		private long _tickLimit;
+
+		/**
+		Constructor that records the range of seeds and the tick limit.
+		*/
+		public Batch(long from, long to, long tickLimit) {
+			_from = from;
+			_to = to;
+			_tickLimit = tickLimit;
+		}
+
+		/**
+		Plays the range, or splits it and merges the halves' stats.
+		*/
+		@Override
+		protected BatchStats compute() {
+			if (_to - _from <= GRAIN) {
+				BatchStats stats = new BatchStats();
+				for (long seed = _from; seed < _to; seed++) {
+					BatchSimulator.play(seed, _tickLimit, stats);
+				}
+				return stats;
+			}
+			long middle = _from + (_to - _from) / 2;
+			Batch lower = new Batch(_from, middle, _tickLimit);
+			lower.fork();
+			BatchStats stats = new Batch(middle, _to, _tickLimit).compute();
+			stats.merge(lower.join());
+			return stats;
+		}
+	}
+
+	/**
+	Listens to one game, adding each gap between consecutive platforms and each hazard added and hit to the stats, and
+	remembering how the game ended. The last platform's position and type are kept as reported, since its row in the
+	World's PlatformStore is recycled once it is evicted.
+	*/
+	private static class GameRecorder implements WorldListener {
+		private BatchStats _stats;
+		private boolean _started;
+		private double _lastX;
+		private double _lastY;
+		private PlatformType _lastType;
+		private String _cause;
+
+		/**
+		Constructor that records the stats to add to.
+		*/
+		public GameRecorder(BatchStats stats) {
+			_stats = stats;
+			_started = false;
+			_cause = null;
+		}
+
+		/**
+		Accessor method that returns how the game ended, or null if it has not.
+		*/
+		public String getCause() {
+			return _cause;
+		}
+
+		/**
+		Adds the gap between the new platform and the one before it.
+		*/
+		@Override
+		public void platformAdded(int id, double x, double y, PlatformType type) {
+			if (_started) {
+				_stats.addGap(BatchSimulator.isReachable(_lastX, _lastY, _lastType, x, y,
+						Constants.PLATFORM_FIT_WIDTH));
+			}
+			_started = true;
+			_lastX = x;
+			_lastY = y;
+			_lastType = type;
+		}
+
+		@Override
+		public void platformRemoved(int id) {
+		}
+
+		@Override
+		public void platformVanished(int id) {
+		}
+
+		@Override
+		public void hazardAdded(Hazard hazard) {
+			_stats.addHazard(HazardStore.kindOf(hazard.getType()));
+		}
+
+		@Override
+		public void hazardRemoved(Hazard hazard) {
+		}
+
+		@Override
+		public void hazardHit(Hazard hazard) {
+			_stats.addHit(HazardStore.kindOf(hazard.getType()));
+		}
+
+		@Override
+		public void rocketLaunched() {
+		}
+
+		@Override
+		public void rocketLanded() {
+		}
+
+		@Override
+		public void gameOver(String cause) {
+			_cause = cause;
+		}
+	}
+}
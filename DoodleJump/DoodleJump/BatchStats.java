@@ -0,0 +1,157 @@
+package DoodleJump;
+
+import java.util.Arrays;
+
+/**
+BatchStats totals the outcome of a batch of simulated games: how high each game got, how it ended, how many of the
+gaps between consecutive platforms could not be jumped, and how many hazards were added and run into, by kind. Each
+fork/join task fills its own BatchStats, and the results are merged as the tasks join, so nothing is shared between
+threads while games are running.
+*/
+public class BatchStats {
+	private int[] _heights;
+	private int _games;
+	private long _ticks;
+	private int _survived;
+	private int _blackHoleDeaths;
+	private int _falls;
+	private long _gaps;
+	private long _unreachableGaps;
+	private long[] _hazardsAdded;
+	private long[] _hazardsHit;
+
+	/**
+	Constructor for empty totals.
+	*/
+	public BatchStats() {
+		_heights = new int[16];
+		_games = 0;
+		_ticks = 0;
+		_survived = 0;
+		_blackHoleDeaths = 0;
+		_falls = 0;
+		_gaps = 0;
+		_unreachableGaps = 0;
+		_hazardsAdded = new long[HazardStore.KIND_COUNT];
+		_hazardsHit = new long[HazardStore.KIND_COUNT];
+	}
+
+	/**
+	Adds one game: the height it reached, the ticks it ran for and how it ended ("BLACK_HOLE", "FALL", or null if it
+	was still running when the tick limit was reached).
+	*/
+	public void addGame(int height, long ticks, String cause) {
+		if (_games == _heights.length) {
+			_heights = Arrays.copyOf(_heights, _games * 2);
+		}
+		_heights[_games] = height;
+		_games = _games + 1;
+		_ticks = _ticks + ticks;
+		if (cause == "BLACK_HOLE") {
+			_blackHoleDeaths = _blackHoleDeaths + 1;
+		} else if (cause == "FALL") {
+			_falls = _falls + 1;
+		} else {
+			_survived = _survived + 1;
+		}
+	}
+
+	/**
+	Adds a gap between two consecutive platforms, and whether it could be jumped.
+	*/
+	public void addGap(boolean reachable) {
+		_gaps = _gaps + 1;
+		if (!reachable) {
+			_unreachableGaps = _unreachableGaps + 1;
+		}
+	}
+
+	/**
+	Adds a hazard of the given kind (a HazardStore kind) added to a game.
+	*/
+	public void addHazard(int kind) {
+		_hazardsAdded[kind] = _hazardsAdded[kind] + 1;
+	}
+
+	/**
+	Adds a hazard of the given kind run into by the doodle.
+	*/
+	public void addHit(int kind) {
+		_hazardsHit[kind] = _hazardsHit[kind] + 1;
+	}
+
+	/**
+	Adds every total of another BatchStats to these.
+	*/
+	public void merge(BatchStats other) {
+		if (_games + other._games > _heights.length) {
+			_heights = Arrays.copyOf(_heights, _games + other._games);
+		}
+		System.arraycopy(other._heights, 0, _heights, _games, other._games);
+		_games = _games + other._games;
+		_ticks = _ticks + other._ticks;
+		_survived = _survived + other._survived;
+		_blackHoleDeaths = _blackHoleDeaths + other._blackHoleDeaths;
+		_falls = _falls + other._falls;
+		_gaps = _gaps + other._gaps;
+		_unreachableGaps = _unreachableGaps + other._unreachableGaps;
+		for (int kind = 0; kind < HazardStore.KIND_COUNT; kind++) {
+			_hazardsAdded[kind] = _hazardsAdded[kind] + other._hazardsAdded[kind];
+			_hazardsHit[kind] = _hazardsHit[kind] + other._hazardsHit[kind];
+		}
+	}
+
+	/**
+	Accessor method that returns the number of games played.
+	*/
+	public int getGames() {
+		return _games;
+	}
+
+	/**
+	Accessor method that returns the number of ticks simulated over all games.
+	*/
+	public long getTicks() {
+		return _ticks;
+	}
+
+	/**
+	Returns a multi-line summary of the totals: the spread of heights reached, how games ended, the share of
+	unreachable gaps and, for each kind of hazard, how many were added and run into per game and the share of those
+	added that were run into.
+	*/
+	public String getReport() {
+		if (_games == 0) {
+			return "No games played";
+		}
+		int[] heights = Arrays.copyOf(_heights, _games);
+		Arrays.sort(heights);
+		double mean = 0;
+		for (int height : heights) {
+			mean = mean + (double) height / _games;
+		}
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("height    mean %.0f  p10 %d  p50 %d  p90 %d  max %d%n", mean,
+				BatchStats.percentile(heights, 0.1), BatchStats.percentile(heights, 0.5),
+				BatchStats.percentile(heights, 0.9), heights[_games - 1]));
+		report.append(String.format("ended     fall %.1f%%  black hole %.1f%%  tick limit %.1f%%%n",
+				100.0 * _falls / _games, 100.0 * _blackHoleDeaths / _games, 100.0 * _survived / _games));
+		report.append(String.format("gaps      %.1f per game  unreachable %.3f%%%n", (double) _gaps / _games,
+				_gaps == 0 ? 0 : 100.0 * _unreachableGaps / _gaps));
+		String[] names = { "black hole", "monster", "rocket" };
+		for (int kind = 0; kind < HazardStore.KIND_COUNT; kind++) {
+			report.append(String.format("%-10s added %.2f per game  hit %.2f per game  encounter rate %.1f%%%n",
+					names[kind], (double) _hazardsAdded[kind] / _games, (double) _hazardsHit[kind] / _games,
+					_hazardsAdded[kind] == 0 ? 0 : 100.0 * _hazardsHit[kind] / _hazardsAdded[kind]));
+		}
+		return report.toString();
+	}
+
+	/**
+	Returns the value the given fraction of the sorted values do not exceed.
+	*/
+	private static int percentile(int[] sorted, double fraction) {
+		int rank = (int) Math.ceil(fraction * sorted.length);
+		return sorted[Math.max(rank, 1) - 1];
+	}
+}
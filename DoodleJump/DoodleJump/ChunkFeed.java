@@ -0,0 +1,156 @@
+package DoodleJump;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ChunkFeed supplies the World with chunks of generated platforms. It starts out generating inline: the World's own
+thread fills a chunk whenever it runs out, which suits headless runs of thousands of Worlds. Once generateInBackground
+is called, a daemon thread takes over the LevelGenerator and keeps Constants.CHUNK_COUNT chunks filled ahead of the
+doodle. Two ChunkQueues connect the threads - filled chunks travel to the World through one and used chunks return to
+the producer through the other - so the World's thread only ever swaps one array-backed chunk for another and never
+generates a platform itself. The producer sleeps while every chunk is filled and is woken each time one comes back.
+
+The layout only depends on the generator, so it is the same however far ahead it is generated. Should the World ever
+catch up with the producer, it waits for the next chunk rather than generating out of turn - spinning briefly, then
+parking between polls - and the wait is counted as a stall. Once the producer has been stopped, or has died, the
+World's thread takes the generator back and fills chunks inline again.
+*/
+public class ChunkFeed {
+	private LevelGenerator _generator;
+	private ChunkQueue _filled;
+	private ChunkQueue _free;
+	private PlatformChunk _inline;
+	private Thread _producer;
+	private volatile boolean _running;
+	private int _stalls;
+
+	/**
+	Constructor that generates inline from the given generator, with every chunk but one waiting to be filled.
+	*/
+	public ChunkFeed(LevelGenerator generator) {
+		_generator = generator;
+		_filled = new ChunkQueue(Constants.CHUNK_COUNT);
+		_free = new ChunkQueue(Constants.CHUNK_COUNT);
+		_inline = new PlatformChunk(Constants.CHUNK_PLATFORMS);
+		for (int i = 1; i < Constants.CHUNK_COUNT; i++) {
+			_free.offer(new PlatformChunk(Constants.CHUNK_PLATFORMS));
+		}
+		_producer = null;
+		_running = false;
+		_stalls = 0;
+	}
+
+	/**
+	Hands the generator over to a background thread, which starts filling chunks at once. The World's thread must not
+	be in take() while this runs.
+	*/
+	public void generateInBackground() {
+		if (_producer != null) {
+			return;
+		}
+		_running = true;
+		_producer = new Thread(new Producer(), "level-generator");
+		_producer.setDaemon(true);
+		_producer.start();
+	}
+
+	/**
+	Stops the background thread, if there is one. It finishes the chunk it is filling and exits.
+	*/
+	public void stop() {
+		_running = false;
+		if (_producer != null) {
+			LockSupport.unpark(_producer);
+		}
+	}
+
+	/**
+	Returns the next filled chunk, taking back the chunk passed in (the one just used up, or null for the first call)
+	to be filled again.
+	*/
+	public PlatformChunk take(PlatformChunk used) {
+		if (_producer == null) {
+			_generator.fill(_inline);
+			return _inline;
+		}
+		if (used != null) {
+			_free.offer(used);
+			LockSupport.unpark(_producer);
+		}
+		if (!_running || !_producer.isAlive()) {
+			return this.takeAfterProducer();
+		}
+		PlatformChunk chunk = _filled.poll();
+		if (chunk == null) {
+			_stalls = _stalls + 1;
+			int spins = 0;
+			while (chunk == null) {
+				if (!_running || !_producer.isAlive()) {
+					return this.takeAfterProducer();
+				}
+				if (spins < Constants.CHUNK_SPINS) {
+					spins = spins + 1;
+					Thread.onSpinWait();
+				} else {
+					LockSupport.parkNanos(Constants.CHUNK_PARK);
+				}
+				chunk = _filled.poll();
+			}
+		}
+		return chunk;
+	}
+
+	/**
+	Returns the next chunk once the producer has been stopped or has died: waits for it to finish the chunk it may be
+	filling, then hands out any chunk it left filled, or else fills a free chunk inline on the World's thread. The World
+	thereby never waits on a producer that will not deliver, and the layout carries on in order.
+	*/
+	private PlatformChunk takeAfterProducer() {
+		_running = false;
+		LockSupport.unpark(_producer);
+		try {
+			_producer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		PlatformChunk chunk = _filled.poll();
+		if (chunk == null) {
+			chunk = _free.poll();
+			_generator.fill(chunk);
+		}
+		return chunk;
+	}
+
+	/**
+	Accessor method that returns the number of chunks filled and waiting.
+	*/
+	public int getReady() {
+		return _filled.size();
+	}
+
+	/**
+	Accessor method that returns how many times the World has had to wait for a chunk.
+	*/
+	public int getStalls() {
+		return _stalls;
+	}
+
+	/**
+	The background thread's loop: fills every free chunk and passes it on, then sleeps until one is returned.
+	*/
+	private class Producer implements Runnable {
+
+		@Override
+		public void run() {
+			while (_running) {
+				PlatformChunk chunk = _free.poll();
+				if (chunk == null) {
+					LockSupport.park(this);
+				} else {
+					_generator.fill(chunk);
+					_filled.offer(chunk);
+				}
+			}
+		}
+	}
+}
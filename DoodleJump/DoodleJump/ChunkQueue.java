@@ -0,0 +1,59 @@
+package DoodleJump;
+
+/**
+ChunkQueue is a bounded, lock-free queue of PlatformChunks between exactly one producing thread and one consuming
+thread. It is a ring of slots with two counters: the producer alone advances the tail and the consumer alone advances
+the head, so neither ever waits for a lock or retries a compare-and-set. Both counters are volatile - writing a chunk
+into its slot before publishing the new tail makes the chunk's contents visible to the consumer that reads that tail,
+and the same goes for the head the other way. Offering to a full queue or polling an empty one simply fails, and the
+caller decides whether to wait.
+*/
+public class ChunkQueue {
+	private PlatformChunk[] _slots;
+	private volatile long _head;
+	private volatile long _tail;
+
+	/**
+	Constructor for an empty queue of the given capacity.
+	*/
+	public ChunkQueue(int capacity) {
+		_slots = new PlatformChunk[capacity];
+		_head = 0;
+		_tail = 0;
+	}
+
+	/**
+	Adds a chunk at the tail. Returns false, adding nothing, if the queue is full. Only the producer may call this.
+	*/
+	public boolean offer(PlatformChunk chunk) {
+		long tail = _tail;
+		if (tail - _head == _slots.length) {
+			return false;
+		}
+		_slots[(int) (tail % _slots.length)] = chunk;
+		_tail = tail + 1;
+		return true;
+	}
+
+	/**
+	Removes and returns the chunk at the head, or returns null if the queue is empty. Only the consumer may call this.
+	*/
+	public PlatformChunk poll() {
+		long head = _head;
+		if (head == _tail) {
+			return null;
+		}
+		int slot = (int) (head % _slots.length);
+		PlatformChunk chunk = _slots[slot];
+		_slots[slot] = null;
+		_head = head + 1;
+		return chunk;
+	}
+
+	/**
+	Accessor method that returns the number of chunks in the queue, as seen from the calling thread.
+	*/
+	public int size() {
+		return (int) (_tail - _head);
+	}
+}
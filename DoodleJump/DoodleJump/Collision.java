@@ -0,0 +1,42 @@
+package DoodleJump;
+
+/**
+Collision holds the game's contact tests. Every element keeps its collision rectangle as primitive doubles (x, y,
+width, height) that are updated whenever it moves, so a test is a handful of comparisons - no Bounds objects, no
+scene graph transforms and no allocation. The results match what Node.intersects gave for ImageViews of the fit
+widths in Constants: touching edges count as contact, and a rotated image is tested by the axis-aligned box around it.
+*/
+public class Collision {
+
+	/**
+	Collision is purely static - there is never a reason to instantiate it.
+	*/
+	private Collision() {
+	}
+
+	/**
+	Axis-aligned rectangle overlap test between rectangle a and rectangle b. Touching edges count as contact.
+	*/
+	public static boolean intersects(double ax, double ay, double aw, double ah, double bx, double by, double bw,
+			double bh) {
+		return ax <= bx + bw && ax + aw >= bx && ay <= by + bh && ay + ah >= by;
+	}
+
+	/**
+	Returns the width of the axis-aligned box around a width x height rectangle rotated about its center by the given
+	number of degrees.
+	*/
+	public static double rotatedWidth(double width, double height, double rotate) {
+		double radians = Math.toRadians(rotate);
+		return width * Math.abs(Math.cos(radians)) + height * Math.abs(Math.sin(radians));
+	}
+
+	/**
+	Returns the height of the axis-aligned box around a width x height rectangle rotated about its center by the given
+	number of degrees.
+	*/
+	public static double rotatedHeight(double width, double height, double rotate) {
+		double radians = Math.toRadians(rotate);
+		return width * Math.abs(Math.sin(radians)) + height * Math.abs(Math.cos(radians));
+	}
+}
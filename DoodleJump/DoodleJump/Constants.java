@@ -16,6 +16,31 @@ public class Constants {
 	public static final int REBOUND_VELOCITY = -900; // initial jump velocity
 														// (UNITS: pixels/s)
 	public static final double DURATION = 0.016; // KeyFrame duration (UNITS: s)
+	public static final double PHYSICS_RATE = 1 / DURATION; // fixed physics steps per second
+	public static final double RENDER_RATE = 144; // maximum rendered frames per second
+	public static final double RENDER_SLACK = 0.1; // fraction of a render period a pulse may arrive early
+	public static final double MAX_FRAME_TIME = 0.25; // most time simulated per pulse (UNITS: s)
+	public static final int CHUNK_PLATFORMS = 32; // platforms in each chunk of the level's layout
+	public static final int CHUNK_COUNT = 8; // chunks of the layout in circulation, filled or being used
+	public static final int CHUNK_SPINS = 100; // polls spent spinning for a late chunk before parking between polls
+	public static final long CHUNK_PARK = 100000; // time parked between polls for a late chunk (UNITS: ns)
+	public static final double INPUT_LATE_MARGIN = 0.004; // wait beyond one tick before a key change is late (UNITS: s)
+	public static final int PROFILER_WINDOW = 600; // samples in each profiler histogram's rolling window
+	public static final double PROFILER_REFRESH = 0.25; // time between profiler overlay updates (UNITS: s)
+	// a fixed seed for the game's random number generator (-Ddoodle.seed=<n>), or null for a different game each run
+	public static final Long SEED = Long.getLong("doodle.seed");
+	// file the game's seed and key presses are recorded to when it ends (-Ddoodle.record=<file>), or null
+	public static final String RECORD_FILE = System.getProperty("doodle.record");
+	// file of a recorded game to replay instead of taking keyboard input (-Ddoodle.replay=<file>), or null
+	public static final String REPLAY_FILE = System.getProperty("doodle.replay");
+	// how the world is drawn: "NODES" (an ImageView per entity), "CANVAS" (redrawn onto one Canvas each frame) or
+	// "COMPARE" (a game with nodes, then its replay on the canvas), chosen at startup with -Ddoodle.render=<mode>.
+	// Interned so that it can be compared with ==.
+	public static final String RENDER_MODE = System.getProperty("doodle.render", "NODES").toUpperCase().intern();
+	public static final double ATLAS_SCALE = 2; // sprites are packed at this multiple of their displayed size
+	public static final int ATLAS_WIDTH = 1024; // width of the sprite atlas texture (UNITS: pixels)
+	public static final int ATLAS_PADDING = 2; // transparent gap around each packed sprite (UNITS: pixels)
+	public static final double THRUST_WIDTH = 50; // fit width of the rocket's thrust
 	public static final int LAT_PXL_INCR = 5; // Dictates the number of pixels per movement left/right for doodle
 
 	public static final int PLATFORM_WIDTH = 40; // (UNITS: pixels)
@@ -24,6 +49,10 @@ public class Constants {
 	public static final double DOODLE_HEIGHT = 20; // (UNITS: pixels)
 	public static final double CLASSIC_DOODLE_DIM = 45; // default fit width of
 														// doodle imageview
+	public static final double DOODLE_FIT_HEIGHT = CLASSIC_DOODLE_DIM * 670 / 744; // height of doodle imageview
+																					// (doodle images are 744x670)
+	public static final double PLATFORM_FIT_WIDTH = PLATFORM_WIDTH + 15; // fit width of platform imageviews
+	public static final int PLATFORM_POOL_SIZE = 24; // maximum number of hidden platform imageviews kept for reuse
 	public static final double TRAMP_VELOCITY_FACTOR = 1.75; // fraction of
 																// rebound
 																// velocity
@@ -55,35 +84,23 @@ public class Constants {
 
 	public static final double BLACK_HOLE_WIDTH = 75; // default width of black
 														// hole ImageView
-	public static final double BLACK_HOLE_INC = 18 + (int) (Math.random() * 4); // semi-random
-																				// increment
-																				// dictates
-																				// how
-																				// often
-																				// black
-																				// holes
-																				// are
-																				// added
+	public static final double BLACK_HOLE_HEIGHT = BLACK_HOLE_WIDTH * 83 / 82; // height of black hole
+																				// ImageView (image is 82x83)
+	public static final int BLACK_HOLE_INC = 18; // black holes are added every BLACK_HOLE_INC to
+	public static final int BLACK_HOLE_INC_SPREAD = 4; // BLACK_HOLE_INC + BLACK_HOLE_INC_SPREAD - 1 bounces,
+														// the increment chosen at random for each game
 	public static final double ROCKET_WIDTH = 50; // default width of rocket
 													// ImageView
-	public static final double ROCKET_INC = 8 + (int) (Math.random() * 3); // semi-random
-																			// increment
-																			// dictates
-																			// how
-																			// often
-																			// rockets
-																			// are
-																			// added
+	public static final double ROCKET_HEIGHT = ROCKET_WIDTH * 355 / 232; // height of rocket ImageView (image
+																			// is 232x355)
+	public static final double ROCKET_ROTATE = 30; // degrees the rocket ImageView is tilted
+	public static final int ROCKET_INC = 8; // rockets are added every ROCKET_INC to
+	public static final int ROCKET_INC_SPREAD = 3; // ROCKET_INC + ROCKET_INC_SPREAD - 1 bounces
 	public static final double MONSTER_WIDTH = 77; // default width of monster
 													// ImageView
-	public static final double MONSTER_INC = 11 + (int) (Math.random() * 7); // semi-random
-																				// increment
-																				// dictates
-																				// how
-																				// often
-																				// monsters
-																				// are
-																				// added
+	public static final double MONSTER_HEIGHT = MONSTER_WIDTH; // monster images are square
+	public static final int MONSTER_INC = 11; // monsters are added every MONSTER_INC to
+	public static final int MONSTER_INC_SPREAD = 7; // MONSTER_INC + MONSTER_INC_SPREAD - 1 bounces
 	public static final double FADE_OUT = 1.5; // duration, seconds, of
 												// FadeTransition fade out
 }
@@ -0,0 +1,106 @@
+package DoodleJump;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import javafx.scene.image.Image;
+
+/**
+DecodeTable holds one decode per resource path, shared by every thread that asks for the image at that path. It backs
+the SpriteCache and the SpriteAtlas, whose images may be decoded on the AssetPreloader's threads or on the JavaFX
+thread, whichever asks first.
+
+Each path maps to a FutureTask, claimed with putIfAbsent and run by the thread that claimed it, outside the map. A
+decode therefore never holds a lock in the map (as it would inside computeIfAbsent, which locks a whole bin of
+paths), and a thread asking for an image waits for that image's decode alone - never for an unrelated one.
+*/
+public class DecodeTable {
+	private ConcurrentHashMap<String, FutureTask<Image>> _decodes;
+	private Function<String, Image> _decoder;
+
+	/**
+	Constructor that decodes each path with the given function.
+	*/
+	public DecodeTable(Function<String, Image> decoder) {
+		_decodes = new ConcurrentHashMap<String, FutureTask<Image>>();
+		_decoder = decoder;
+	}
+
+	/**
+	Returns the image at the given path: decodes it on the calling thread if no decode has started, waits for the
+	decode if one is under way on another thread, or returns it at once if it is done. A failed decode throws its
+	exception again, here and on every later call.
+	*/
+	public Image get(String path) {
+		FutureTask<Image> decode = _decodes.get(path);
+		if (decode == null) {
+			FutureTask<Image> claim = new FutureTask<Image>(new Decode(path));
+			decode = _decodes.putIfAbsent(path, claim);
+			if (decode == null) {
+				decode = claim;
+				claim.run();
+			}
+		}
+		try {
+			return decode.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for " + path + " to decode", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Could not decode " + path, e.getCause());
+		}
+	}
+
+	/**
+	Returns whether the image at the given path has finished decoding.
+	*/
+	public boolean isDone(String path) {
+		FutureTask<Image> decode = _decodes.get(path);
+		return decode != null && decode.isDone();
+	}
+
+	/**
+	Forgets the image at the given path, so the table no longer holds on to it.
+	*/
+	public void remove(String path) {
+		_decodes.remove(path);
+	}
+
+	/**
+	Forgets every image.
+	*/
+	public void clear() {
+		_decodes.clear();
+	}
+
+	/**
+	Accessor method that returns the number of paths decoded or being decoded.
+	*/
+	public int size() {
+		return _decodes.size();
+	}
+
+	/**
+	One path's decode, run by the FutureTask of whichever thread claimed the path.
+	*/
+	private class Decode implements Callable<Image> {
+		private String _path;
+
+		/**
+		Constructor that records the path to decode.
+		*/
+		public Decode(String path) {
+			_path = path;
+		}
+
+		@Override
+		public Image call() {
+			return _decoder.apply(_path);
+		}
+	}
+}
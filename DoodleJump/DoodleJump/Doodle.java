@@ -2,7 +2,6 @@ package DoodleJump;
 
 import javafx.scene.layout.*;
 import javafx.scene.image.ImageView;
-import javafx.scene.image.Image;
 
 /**
 The doodle class models a doodle using an ImageView to render a graphic. Adds doodle to a pane and provides
@@ -12,7 +11,7 @@ public class Doodle {
 	private Pane _doodlePane;
 	private Pane _root;
 	private ImageView _doodleIconViewer;
-	private Image _doodleIcon;
+	private String _doodleIcon;
 
 	/**
 	A constructor that establishes an association with the root, and passes in a doodle pane to which the doodle
@@ -29,8 +28,9 @@ public class Doodle {
 	in the doodle class, provides initialization layout and formatting.
 	*/
 	private void setUpDoodle() {
-		_doodleIcon = new Image("Images/doodleL.png");
-		_doodleIconViewer = new ImageView(_doodleIcon);
+		_doodleIcon = "Images/doodleL.png";
+		_doodleIconViewer = new ImageView();
+		SpriteAtlas.apply(_doodleIconViewer, _doodleIcon);
 		_doodleIconViewer.setFitWidth(Constants.CLASSIC_DOODLE_DIM);
 		_doodleIconViewer.setPreserveRatio(true);
 		_doodleIconViewer.setCache(true);
@@ -41,6 +41,20 @@ public class Doodle {
 		_root.getChildren().add(_doodlePane);
 	}
 
+	/**
+	Returns the doodle to how it looked at the start of the game: its default sprite, upright, full size and at its
+	starting position.
+	*/
+	public void reset() {
+		SpriteAtlas.apply(_doodleIconViewer, _doodleIcon);
+		_doodleIconViewer.setRotate(0);
+		_doodleIconViewer.setScaleX(1);
+		_doodleIconViewer.setScaleY(1);
+		_doodleIconViewer.setLayoutX(Constants.SCENE_WIDTH / 2
+				- Constants.CLASSIC_DOODLE_DIM / 2);
+		_doodleIconViewer.setLayoutY(Constants.SCENE_HEIGHT / 2);
+	}
+
 	/**
 	Accessor method that returns the doodle's "core" node, its ImageView.
 	*/
@@ -49,12 +63,19 @@ public class Doodle {
 	}
 
 	/**
-	Accessor method that returns the doodle's default image.
+	Accessor method that returns the path of the doodle's default image.
 	*/
-	public Image getDefaultDoodle() {
+	public String getDefaultDoodle() {
 		return _doodleIcon;
 	}
 
+	/**
+	Mutator method that shows the sprite loaded from the given path (its region of the SpriteAtlas).
+	*/
+	public void setSprite(String path) {
+		SpriteAtlas.apply(_doodleIconViewer, path);
+	}
+
 	/**
 	Accessor method that returns the doodle's pane.
 	*/
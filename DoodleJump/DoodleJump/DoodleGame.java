@@ -5,72 +5,96 @@ import javafx.animation.*;
 import javafx.event.*;
 import javafx.util.Duration;
 import javafx.scene.input.*;
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.io.IOException;
 import javafx.scene.image.ImageView;
 import javafx.scene.image.Image;
-import javafx.scene.Node;
-import javafx.geometry.Bounds;
-import javafx.scene.control.Label;
-import javafx.scene.paint.Color;
-import javafx.scene.text.*;
 
 /**
-DoodleGame is the engine of the whole application - among other corollary functions, it primarily establishes the
-timelines controlling the vertical and horizontal motion of the game elements, generates platforms, rockets, monsters
-and black holes in a semi-random manner, scrolls the screen and, critically, updates the doodle's position while
-simultaneously checking for contact with all of the other elements added, and then responding accordingly.
+DoodleGame is the view and controller of the whole application - the game state itself (doodle, platforms, black holes,
+rockets and monsters) lives in a headless World, which this class steps from its GameLoop at a fixed rate. Each frame it
+moves the camera and the doodle to match the World, and it reacts to the World's events by adding and removing nodes,
+swapping backgrounds and showing the end of game screen on the Hud. It also handles the keyboard input that dictates
+lateral movement and pause & play: the arrow keys only update a KeyState, which the game loop polls before each tick.
+Every game can be recorded to an InputLog (-Ddoodle.record=<file>) and replayed from one (-Ddoodle.replay=<file>), in
+which case the log, not the arrow keys, steers the doodle.
+
+Platforms and hazards live in a single world layer laid out in world coordinates. Scrolling is done by changing that
+layer's translateY once per frame, so the cost of a scroll does not depend on how many elements are on screen. Outside
+the world layer the scene graph is fixed: the rocket's thrust, the Hud and the profiler overlay are created once and
+only shown or hidden, so neither a key press nor a rocket adds a node.
 */
 public class DoodleGame {
 	private Pane _root;
 	private PaneOrganizer _organizer;
 	private Doodle _doodle;
-	private Platform _topMostPlatform;
-	private ArrayList<Platform> _myPlatforms;
-	private Label _scoreCounter;
-	private Timeline _verticalTimeline;
-	private Timeline _lateralTimeline;
-	private KeyFrame _moveLeft;
-	private KeyFrame _moveRight;
-
-	private ImageView _blackHoleViewer;
-	private String _blackHoleStatus;
+	private Pane _worldLayer;
+	private WorldCanvas _worldCanvas;
+	private WorldCanvas _canvasRenderer;
+	private String _renderMode;
+	private FrameStats _frameStats;
+	private FrameStats _comparedStats;
+	private ProfilerOverlay _profiler;
+	private GameMetrics _metrics;
+	private World _world;
+	private WorldViewUpdater _viewUpdater;
+	private WorldInput _input;
+	private KeyState _keys;
+	private InputLog _recording;
+	private InputLog _replay;
+	private InputLog _loadedReplay;
+	private InputLog _comparedGame;
+	private PlatformPool _platformPool;
+	private PlatformViews _myPlatforms;
+	private HashMap<Hazard, ImageView> _hazardViewers;
+	private Hud _hud;
+	private GameLoop _gameLoop;
+
 	private String _blackHoleContact;
 
-	private ImageView _rocketViewer;
 	private ImageView _thrustViewer;
-	private String _rocketStatus;
 	private FadeTransition _fadeThrust;
+	private ScaleTransition _blackHoleShrink;
 
-	private Timeline _monsterTimeline;
-	private ImageView _monsterViewer;
-	private String _monsterStatus;
-	private Image _monsterType;
-
-	private String _bounceType;
-	private String _playStatus;
-	private double _velocity;
-	private double _yPositionFinal;
-	private double _randomX;
-	private int _counter;
 	private int _currentScore;
 	private LateralMoveInitiator _activateArrowKeys;
 	private LateralMoveInhibitor _disconnectArrowKeys;
 
 	/**
-	DoodleGame's constructor establishes association with the game's doodle, the root pane, the scoreCounter label and
-	the instance of the PaneOrganizer class. It also includes the initialization of some String instance variables which
-	dictate game logic processes, particularly those that contain ___status. Such strings are often used in if statments
-	throughout the program to determine interactions.
+	DoodleGame's constructor establishes association with the game's doodle, the root pane, the Hud and
+	the instance of the PaneOrganizer class, then creates the World (whose initial platforms are rendered through the
+	WorldViewUpdater as they are generated) and the game loop that drives it.
 	*/
-	public DoodleGame(Pane rootPane, Doodle doodle, Label scoreCounter,
+	public DoodleGame(Pane rootPane, Doodle doodle, Hud hud,
 			PaneOrganizer organizer) {
 		_root = rootPane;
 		_blackHoleContact = "FALSE";
 		_organizer = organizer;
-		_scoreCounter = scoreCounter;
+		_hud = hud;
 		_currentScore = 0;
-		_scoreCounter.setText(Integer.toString(_currentScore));
-		_myPlatforms = new ArrayList<Platform>();
+		_hud.setScore(_currentScore);
+		//The world layer sits just above the background, below the doodle and every overlay
+		_worldLayer = new Pane();
+		_root.getChildren().add(_root.getChildren().indexOf(_organizer.getBackgroundViewer()) + 1, _worldLayer);
+		_worldCanvas = null;
+		_canvasRenderer = null;
+		//A comparison starts with the node-based view
+		if (Constants.RENDER_MODE == "CANVAS") {
+			this.setRenderMode("CANVAS");
+		} else {
+			this.setRenderMode("NODES");
+		}
+		_frameStats = new FrameStats(_renderMode);
+		_comparedStats = null;
+		_comparedGame = null;
+		_profiler = new ProfilerOverlay();
+		_root.getChildren().add(_profiler.getNode());
+		_metrics = new GameMetrics(this);
+		_metrics.register();
+		_platformPool = new PlatformPool(_worldLayer);
+		_myPlatforms = new PlatformViews(_platformPool);
+		_hazardViewers = new HashMap<Hazard, ImageView>();
 		_doodle = doodle;
 		_doodle.getPane().setFocusTraversable(true);
 		_activateArrowKeys = new LateralMoveInitiator();
@@ -79,784 +103,690 @@ public class DoodleGame {
 				_activateArrowKeys);
 		_doodle.getPane().addEventHandler(KeyEvent.KEY_RELEASED,
 				_disconnectArrowKeys);
-		_velocity = Constants.REBOUND_VELOCITY;
-		_topMostPlatform = new Platform(_root, Constants.SCENE_WIDTH / 2,
-				Constants.SCENE_HEIGHT / 2 - 100);
-		_myPlatforms.add(_topMostPlatform);
-		_counter = 0;
-		_playStatus = "PLAYING";
-		
-		_thrustViewer = new ImageView(new Image("Images/thrust.png"));
+		_input = new WorldInput();
+		_keys = new KeyState();
+
+		_thrustViewer = new ImageView();
+		SpriteAtlas.apply(_thrustViewer, "Images/thrust.png");
 		_thrustViewer.setOpacity(1.0);
-		_thrustViewer.setFitWidth(50);
+		_thrustViewer.setFitWidth(Constants.THRUST_WIDTH);
 		_thrustViewer.setRotate(180);
 		_thrustViewer.setPreserveRatio(true);
 		_thrustViewer.setCache(true);
 		_thrustViewer.setSmooth(true);
-		
+		_thrustViewer.setVisible(false);
+		//The thrust is drawn just above the doodle, and below the Hud
+		_root.getChildren().add(_root.getChildren().indexOf(_doodle.getPane()) + 1, _thrustViewer);
+
 		_fadeThrust = new FadeTransition(Duration.seconds(9.5), _thrustViewer);
 		_fadeThrust.setFromValue(1.0);
 		_fadeThrust.setToValue(0.0);
 		_fadeThrust.setOnFinished(new RemoveThrustHandler());
-		
-		this.generatePlatforms();
+
+		_blackHoleShrink = new ScaleTransition(Duration.seconds(Constants.FADE_OUT), _doodle.getDoodleViewer());
+		_blackHoleShrink.setFromX(1);
+		_blackHoleShrink.setFromY(1);
+		_blackHoleShrink.setToX(1 / 2);
+		_blackHoleShrink.setToY(1 / 2);
+
+		_loadedReplay = DoodleGame.loadReplay();
+		_viewUpdater = new WorldViewUpdater();
+		this.newWorld();
 		this.setUpTimelines();
 	}
 
 	/**
-	Generates timelines that control the vertical and horizontal movement of the doodle.
+	Creates the World for a new round, whose initial platforms are rendered through the WorldViewUpdater as they are
+	generated, and moves its platform generation onto a background thread. A replay brings its own seed (and is
+	started over each round); otherwise the seed is fixed with -Ddoodle.seed or chosen at random. The second round of a
+	render mode comparison replays the first.
 	*/
-	private void setUpTimelines() {
-		//ESTABLISHES VERTICAL TIMELINE
-		_verticalTimeline = new Timeline();
-		KeyFrame doodleUnderGravity = new KeyFrame(
-				Duration.seconds(Constants.DURATION), new BounceHandler());
-		_verticalTimeline.getKeyFrames().add(doodleUnderGravity);
-		_verticalTimeline.setCycleCount(Animation.INDEFINITE);
-
-		//ESTABLISHES HORIZONTAL TIMELINE
-		_lateralTimeline = new Timeline();
-		_moveLeft = new KeyFrame(Duration.seconds(Constants.DURATION),
-				new LateralMoveHandler("LEFT"));
-		_moveRight = new KeyFrame(Duration.seconds(Constants.DURATION),
-				new LateralMoveHandler("RIGHT"));
-		_lateralTimeline.setCycleCount(Animation.INDEFINITE);
-
-		_monsterTimeline = new Timeline();
-		_monsterTimeline.setCycleCount(Animation.INDEFINITE);
+	private void newWorld() {
+		_replay = _loadedReplay;
+		if (_comparedGame != null) {
+			_replay = _comparedGame;
+		}
+		long seed;
+		if (_replay != null) {
+			_replay.rewind();
+			seed = _replay.getSeed();
+		} else if (Constants.SEED != null) {
+			seed = Constants.SEED;
+		} else {
+			seed = new Random().nextLong();
+		}
+		_recording = null;
+		//The first round of a comparison is recorded, to be replayed in the second
+		if (Constants.RECORD_FILE != null || (Constants.RENDER_MODE == "COMPARE" && _replay == null)) {
+			_recording = new InputLog(seed);
+		}
+		_world = new World(_viewUpdater, seed);
+		_world.generateInBackground();
 	}
 
 	/**
-	An accessor method that returns the vertical timeline (enabling other classes to stop/play it in their
-	implementation).
+	Returns the game to its state at the start of a round, reusing every node, pool and animation: stops the game loop
+	and any animation still playing, hands every platform ImageView back to the pool and drops the hazard ImageViews,
+	puts the doodle back, reconnects the keys if a black hole disconnected them and creates a fresh World. The root's
+	Hud is reset by the PaneOrganizer, which calls this.
 	*/
-	public Timeline getTimeline() {
-		return _verticalTimeline;
+	public void reset() {
+		_gameLoop.stop();
+		_fadeThrust.stop();
+		_blackHoleShrink.stop();
+		_hud.stopFades();
+		_world.getChunkFeed().stop();
+		_myPlatforms.hideAll();
+		for (ImageView hazardViewer : _hazardViewers.values()) {
+			_worldLayer.getChildren().remove(hazardViewer);
+		}
+		_hazardViewers.clear();
+		_thrustViewer.setVisible(false);
+		_thrustViewer.setOpacity(1.0);
+		_blackHoleContact = "FALSE";
+		_currentScore = 0;
+		_doodle.reset();
+		_keys = new KeyState();
+		_input.setDirection(null);
+		//Removing the key handlers first ensures they are never registered twice
+		_doodle.getPane().removeEventHandler(KeyEvent.KEY_PRESSED, _activateArrowKeys);
+		_doodle.getPane().removeEventHandler(KeyEvent.KEY_RELEASED, _disconnectArrowKeys);
+		_doodle.getPane().addEventHandler(KeyEvent.KEY_PRESSED, _activateArrowKeys);
+		_doodle.getPane().addEventHandler(KeyEvent.KEY_RELEASED, _disconnectArrowKeys);
+		if (Constants.RENDER_MODE == "COMPARE") {
+			if (_comparedStats != null) {
+				this.setRenderMode("CANVAS");
+			} else {
+				this.setRenderMode("NODES");
+			}
+		}
+		_frameStats = new FrameStats(_renderMode);
+		this.newWorld();
+		this.updateView(1);
+		_doodle.getPane().requestFocus();
 	}
 
 	/**
-	Semi-randomly generates platforms to be added to the game - the randomness of platform type is dealt within the
-	Platform class, but this method dictates the position of the new platform in relation to its predecessor in such a way
-	that ensures its lateral and vertical placement will be within reach of the doodle on the platform below.
+	Draws the world with an ImageView per platform and hazard in the world layer ("NODES") or onto a canvas just above
+	the world layer ("CANVAS"), which is created the first time it is needed and hidden while unused. Called while no
+	platform or hazard is shown.
 	*/
-	public void generatePlatforms() {
-		//REMOVES ALL THE LISTED ELEMENTS TO PREEMPT A DUPLICATE PANE ERROR UPON RE-ADDING THEM AT THE END OF THE METHOD
-		_root.getChildren().remove(_doodle.getPane());
-		_root.getChildren().remove(_organizer.getWhiteBackgroundPane());
-		_root.getChildren().remove(_organizer.getQuitButton());
-		_root.getChildren().remove(_organizer.getGameOverPane());
-		//A WHILE LOOP THAT GENERATES A PLATFORM WWHILE THE TOPMOST PLATFORM MOVES DOWN TO BECOME VISIBLE ON SCREEN
-		while (_topMostPlatform.getY() > 0) {
-			double referenceX = _topMostPlatform.getX();
-			double referenceY = _topMostPlatform.getY();
-			double maxDisplacementY = referenceY - 300;
-			double minDisplacementY = referenceY - 75;
-			double maxDisplacementX = referenceX + 200;
-			double minDisplacementX = referenceX - 200;
-			_randomX = minDisplacementX
-					+ (int) ((maxDisplacementX - minDisplacementX + 1) * Math
-							.random());
-			double randomY = minDisplacementY
-					+ (int) ((maxDisplacementY - minDisplacementY + 1) * Math
-							.random());
-			double randomXInBounds = (int) (Math.random() * 100);
-			if (_randomX <= 30) {
-				_randomX = 30 + randomXInBounds;
+	private void setRenderMode(String mode) {
+		_renderMode = mode;
+		if (mode == "CANVAS") {
+			if (_canvasRenderer == null) {
+				_canvasRenderer = new WorldCanvas();
+				_root.getChildren().add(_root.getChildren().indexOf(_worldLayer) + 1, _canvasRenderer.getCanvas());
 			}
-			if (_randomX >= Constants.SCENE_WIDTH - Constants.PLATFORM_WIDTH
-					- 15) {
-				_randomX = Constants.SCENE_WIDTH - Constants.PLATFORM_WIDTH
-						- 30 - randomXInBounds;
+			_canvasRenderer.getCanvas().setVisible(true);
+			_worldCanvas = _canvasRenderer;
+		} else {
+			if (_canvasRenderer != null) {
+				_canvasRenderer.getCanvas().setVisible(false);
 			}
-			_topMostPlatform = new Platform(_root, _randomX, randomY);
-			_myPlatforms.add(_topMostPlatform);
-		}
-		//RE-ADDS THE ELEMENTS FROM THE BEGINNING OF THE METHOD TO ENSURE THEY GRAPHICALLY REMAIN IN FRONT OF THE PLATFORMS
-		_root.getChildren().add(_doodle.getPane());
-		_root.getChildren().add(_organizer.getWhiteBackgroundPane());
-		_root.getChildren().add(_organizer.getQuitButton());
-		_root.getChildren().add(_organizer.getGameOverPane());
+			_worldCanvas = null;
+		}
 	}
 
 	/**
-	A method that interprets the Doodle's position above the midpoint as a distance by which to move the rest of the
-	game's elements down, creating a scrolling illusion or effect.
+	Loads the game to replay from Constants.REPLAY_FILE, if one is given. A file that cannot be read is reported and the
+	game is played from the keyboard instead.
 	*/
-	public void scroll() {
-		//REMOVES ELEMENTS THAT HAVE MOVED OFFSCREEN
-		for (int i = 0; i < _myPlatforms.size(); i++) {
-			if (_myPlatforms.get(i).getY() > Constants.SCENE_HEIGHT) {
-				_myPlatforms.remove(i);
-				this.generatePlatforms();
-			}
-			if (_blackHoleStatus == "ADDED") {
-				if (_blackHoleViewer.getLayoutY() > Constants.SCENE_HEIGHT) {
-					_root.getChildren().remove(_blackHoleViewer);
-					_blackHoleStatus = "REMOVED";
-				}
+	private static InputLog loadReplay() {
+		if (Constants.REPLAY_FILE == null) {
+			return null;
+		}
+		try {
+			return InputLog.load(Constants.REPLAY_FILE);
+		} catch (IOException e) {
+			System.err.println("Could not read replay " + Constants.REPLAY_FILE + ": " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	Brings the input up to date before the next tick is stepped, turning the doodle's sprite to face the way it moves
+	whenever the direction changes. A replay sets the direction; otherwise it is polled from the arrow keys held, and
+	a recording notes it.
+	*/
+	private void prepareInput() {
+		if (_replay != null) {
+			if (_replay.apply(_world.getTick(), _input, _world)) {
+				this.faceDirection();
 			}
-			if (_monsterStatus == "ADDED") {
-				if (_monsterViewer.getLayoutY() > Constants.SCENE_HEIGHT) {
-					_root.getChildren().remove(_monsterViewer);
-					_monsterStatus = "REMOVED";
-					_monsterTimeline.stop();
-				}
+			return;
+		}
+		String direction = _keys.poll(System.nanoTime());
+		if (direction != _input.getDirection()) {
+			_input.setDirection(direction);
+			this.faceDirection();
+		}
+		if (_recording != null) {
+			_recording.recordDirection(_world.getTick(), direction);
+		}
+	}
+
+	/**
+	Turns the doodle's sprite to face the direction held, if any.
+	*/
+	private void faceDirection() {
+		if (_input.getDirection() == "LEFT") {
+			_doodle.setSprite("Images/doodleL.png");
+		} else if (_input.getDirection() == "RIGHT") {
+			_doodle.setSprite("Images/doodleR.png");
+		}
+	}
+
+	/**
+	Pauses the game: stops the game loop and shows the pause indicator. Does nothing once the game is over. Called for
+	the down key and over JMX.
+	*/
+	public void pause() {
+		if (_world.getGameStatus() == "OVER") {
+			return;
+		}
+		_gameLoop.stop();
+		this.setPlayStatus("PAUSED");
+		_hud.showPaused();
+	}
+
+	/**
+	Resumes the game, or starts it before the key hint has faded: hides the hint, starts the game loop and shows the
+	play indicator. Does nothing once the game is over. Called for the up key and over JMX.
+	*/
+	public void resume() {
+		if (_world.getGameStatus() == "OVER") {
+			return;
+		}
+		_organizer.getKeys().setVisible(false);
+		_gameLoop.start();
+		this.setPlayStatus("PLAYING");
+		_hud.showPlaying();
+	}
+
+	/**
+	Sets the play status from the keyboard, noting the change in the recording if there is one. During a replay the
+	log sets the play status instead.
+	*/
+	private void setPlayStatus(String status) {
+		if (_replay != null) {
+			return;
+		}
+		_world.setPlayStatus(status);
+		if (_recording != null) {
+			_recording.recordPlayStatus(_world.getTick(), status);
+		}
+	}
+
+	/**
+	Generates the game loop that drives the World. Lateral movement and the monster are part of the World's tick, so
+	this is the only timer the game runs.
+	*/
+	private void setUpTimelines() {
+		//ESTABLISHES GAME LOOP
+		_gameLoop = new GameLoop();
+	}
+
+	/**
+	An accessor method that returns the game loop (enabling other classes to start/stop it in their implementation).
+	*/
+	public GameLoop getGameLoop() {
+		return _gameLoop;
+	}
+
+	/**
+	An accessor method that returns the pool of platform ImageViews, whose size and reuse rate are useful metrics.
+	*/
+	public PlatformPool getPlatformPool() {
+		return _platformPool;
+	}
+
+	/**
+	An accessor method that returns the arrow keys held, along with the latency from a key change to the tick it
+	reached.
+	*/
+	public KeyState getKeyState() {
+		return _keys;
+	}
+
+	/**
+	An accessor method that returns the frame timings of the current render mode.
+	*/
+	public FrameStats getFrameStats() {
+		return _frameStats;
+	}
+
+	/**
+	An accessor method that returns the World this game renders.
+	*/
+	public World getWorld() {
+		return _world;
+	}
+
+	/**
+	Brings the view up to date for a rendered frame. The camera and doodle are drawn at a point between the previous
+	and the current physics step, alpha being how far through the current step the frame falls, so motion stays
+	smooth whatever the display's refresh rate. Also moves any pacing monster, and keeps the score counter's text and
+	visual formatting current as its value grows. Platforms never move in the world, so they are not touched - unless
+	the world is drawn onto a canvas, in which case the whole visible world is redrawn.
+	*/
+	private void updateView(double alpha) {
+		double cameraY = DoodleGame.interpolate(_world.getPreviousCameraY(), _world.getCameraY(), alpha);
+		double doodleX = _world.getDoodleX();
+		//A doodle wrapping around the edge of the screen jumps rather than sweeping across it
+		if (Math.abs(doodleX - _world.getPreviousDoodleX()) < Constants.SCENE_WIDTH / 2) {
+			doodleX = DoodleGame.interpolate(_world.getPreviousDoodleX(), doodleX, alpha);
+		}
+		double doodleY = DoodleGame.interpolate(_world.getPreviousDoodleY(), _world.getDoodleY(), alpha);
+		_doodle.setPosition(doodleX, doodleY - cameraY);
+		if (_worldCanvas != null) {
+			_worldCanvas.render(_world, cameraY);
+		} else {
+			_worldLayer.setTranslateY(-cameraY);
+			for (HashMap.Entry<Hazard, ImageView> entry : _hazardViewers.entrySet()) {
+				entry.getValue().setLayoutX(entry.getKey().getX());
 			}
 		}
-		//SHIFTS ELEMENTS DOWN BY THE DIFFERENCE BETWEEN THE DOODLE AND THE VETICAL MIDPOINT
-		if (_doodle.getCenterY() < Constants.SCENE_HEIGHT / 2 & _velocity < 0) {
-			double difference = Constants.SCENE_HEIGHT / 2 - _doodle.getCenterY();
-			for (Platform thisPlatform : _myPlatforms) {
-				thisPlatform.setPosition(thisPlatform.getX(),
-						thisPlatform.getY() + difference);
-				if (_blackHoleStatus == "ADDED") {
-					_blackHoleViewer.setLayoutY(_blackHoleViewer.getLayoutY()
-							+ difference / 4);
-				}
-				if (_rocketStatus == "ADDED") {
-					_rocketViewer.setLayoutY(_rocketViewer.getLayoutY()
-							+ difference / 4);
-				}
-				if (_monsterStatus == "ADDED") {
-					_monsterViewer.setLayoutY(_monsterViewer.getLayoutY()
-							+ difference / 4);
-				}
+		if (_world.getScore() != _currentScore) {
+			_currentScore = _world.getScore();
+			_hud.setScore(_currentScore);
+		}
+	}
+
+	/**
+	Returns the value the fraction alpha of the way from previous to current.
+	*/
+	private static double interpolate(double previous, double current, double alpha) {
+		return previous + (current - previous) * alpha;
+	}
+
+	/**
+	Spins the doodle after a trampoline bounce. Called once per physics step so that the spin's speed does not depend
+	on the rendering rate.
+	*/
+	private void spinDoodle() {
+		if (_world.getBounceType() != null && _world.getBounceType().spinsDoodle()) {
+			double velocity = _world.getVelocity();
+			if (velocity < 0
+					&& _doodle.getDoodleViewer().getRotate() < 355) {
+				_doodle.getDoodleViewer().setRotate(
+						_doodle.getDoodleViewer().getRotate()
+								+ Constants.DOODLE_ROTATE_FACTOR);
+			}
+			if (_doodle.getDoodleViewer().getRotate() == 357) {
+				_doodle.getDoodleViewer().setRotate(
+						_doodle.getDoodleViewer().getRotate() + 3);
 			}
-			//PRESERVES SCORE COUNTER'S VISUAL FORMATTING AS ITS VALUE GROWS
-			_currentScore = _currentScore + (int) difference;
-			_scoreCounter.setText(Integer.toString(_currentScore));
-			if (_currentScore >= 0 && _currentScore < 10) {
-				_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-						- Constants.TEXT_OFFSET);
-			} else if (_currentScore >= 10 && _currentScore < 100) {
-				_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-						- Constants.TEXT_OFFSET - 20);
-			} else if (_currentScore >= 100 && _currentScore < 1000) {
-				_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-						- Constants.TEXT_OFFSET - 40);
-			} else if (_currentScore >= 1000 && _currentScore < 10000) {
-				_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-						- Constants.TEXT_OFFSET - 60);
-			} else if (_currentScore >= 10000 && _currentScore < 100000) {
-				_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-						- Constants.TEXT_OFFSET - 80);
-			} else if (_currentScore >= 100000 && _currentScore < 1000000) {
-				_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-						- Constants.TEXT_OFFSET - 100);
-			} else if (_currentScore >= 1000000 && _currentScore < 10000000) {
-				_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-						- Constants.TEXT_OFFSET - 120);
+			if (velocity > 0
+					&& _doodle.getDoodleViewer().getRotate() == 360) {
+				_doodle.getDoodleViewer().setRotate(0);
 			}
-			_doodle.setPosition(_doodle.getCenterX(),	Constants.SCENE_HEIGHT / 2);
 		}
 	}
 
 	/**
-	The primary EventHandler class in the entire application, this handle method is invoked by the KeyFrame added to the
-	vertical timeline and updates the doodle's position
+	The game loop, driven by an AnimationTimer that fires once per JavaFX pulse. Elapsed time is banked in an
+	accumulator and spent in fixed physics steps of 1 / Constants.PHYSICS_RATE seconds, so the simulation runs at the
+	same speed however irregularly pulses arrive - under load the game drops frames rather than slowing down. Frames
+	are rendered about Constants.RENDER_RATE times per second at most (a pulse up to Constants.RENDER_SLACK of a period
+	early is still rendered, so vsync jitter does not skip frames), interpolated between the last two steps.
 	*/
-	private class BounceHandler implements EventHandler<ActionEvent> {
-		private String _fallStatus;
-		private String _launchStatus;
+	public class GameLoop extends AnimationTimer {
+		private long _lastTime;
+		private long _lastRender;
+		private double _accumulator;
+		private long _layoutStart;
+		private LayoutTimer _layoutTimer;
 
 		/**
-		Initializes fall status as false to ensure that the method checks for contacts between the doodle and platforms
-		as well as among all elements in the game. If fall status is true, for example, after the doodle contacts a
-		monster, the doodle will no longer be able to collide with the platforms.
+		Starts the loop afresh, so that time spent stopped (before the game begins or while paused) is not simulated.
+		The first start also hooks the scene's layout pass, so each frame's CSS and layout time can be measured.
 		*/
-		private BounceHandler() {
-			_fallStatus = "FALSE";
+		@Override
+		public void start() {
+			_lastTime = -1;
+			_lastRender = -1;
+			_accumulator = 0;
+			_layoutStart = 0;
+			_metrics.restart();
+			if (_layoutTimer == null && _root.getScene() != null) {
+				_layoutTimer = new LayoutTimer();
+				_root.getScene().addPostLayoutPulseListener(_layoutTimer);
+			}
+			super.start();
 		}
 
 		/**
-		The handle method, effectively passes all the work off to a "helper" method immediately below.
+		Steps the World with the arrow keys currently held, as many times as the elapsed time calls for.
 		*/
 		@Override
-		public void handle(ActionEvent event) {
-			this.updateDoodleVertically();
-			event.consume();
+		public void handle(long now) {
+			if (_lastTime < 0) {
+				_lastTime = now;
+			}
+			double stepDuration = 1.0 / Constants.PHYSICS_RATE;
+			//Caps the time simulated per pulse so that a long stall cannot trigger a spiral of catch-up steps
+			_accumulator = _accumulator + Math.min((now - _lastTime) / 1e9, Constants.MAX_FRAME_TIME);
+			_lastTime = now;
+			while (_accumulator >= stepDuration && _world.getGameStatus() == "RUNNING") {
+				DoodleGame.this.prepareInput();
+				long stepStart = System.nanoTime();
+				_world.step(stepDuration, _input);
+				_frameStats.addTick(System.nanoTime() - stepStart);
+				DoodleGame.this.spinDoodle();
+				_accumulator = _accumulator - stepDuration;
+			}
+			if (_world.getGameStatus() == "OVER") {
+				return;
+			}
+			if (_lastRender < 0 || now - _lastRender >= (1 - Constants.RENDER_SLACK) * 1e9 / Constants.RENDER_RATE) {
+				long updateStart = System.nanoTime();
+				DoodleGame.this.updateView(_accumulator / stepDuration);
+				_layoutStart = System.nanoTime();
+				_frameStats.addUpdate(_layoutStart - updateStart);
+				_frameStats.addEntities(_world.getPlatforms().size() + _world.getHazards().size());
+				if (_lastRender >= 0) {
+					_frameStats.addInterval(now - _lastRender);
+				}
+				_lastRender = now;
+				_profiler.refresh(now, _world, _frameStats, _keys, _root.getChildren().size(),
+						_worldLayer.getChildren().size());
+				_metrics.publish(now, _world, _frameStats, _root.getChildren().size(), _myPlatforms.size());
+			}
 		}
 
 		/**
-		This method it its essence simply updates the vertical position of the doodle based on the current velocity -
-		the complications come from the generation of monsters, rockets and black holes, the checking of contact between
-		the doodle and any of those elements, and then the manipulation of velocity and other paramaters in a manner
-		specific to each element (both within different platform types and between platforms, black holes, rockets and
-		monsters). After all of this has occured, the method determines the new position and trajectory of the doodle.
+		Runs once JavaFX has finished a pulse's CSS and layout passes, attributing the time since the view was
+		updated to them.
 		*/
-		public void updateDoodleVertically() {
-			//A check to ensure that contact is processed only if the string is actively switched
-			String contact = "FALSE";
-			//Checks contact between all platforms in the platform ArrayList and the doodle, and then manipulates velocity
-			//depending on the type of platform contacted.
-			for (int i = 0; i < _myPlatforms.size(); i++) {
-				ImageView thisPlatformNode = _myPlatforms.get(i)
-						.getPlatformViewer();
-				Node thisDoodleNode = _doodle.getDoodleViewer();
-				//Means of putting local platform bounds in terms of local *doodle* bounds, to enable the local bounds based
-				//intersects method called on doodle to check for contact with the platform ImageViews.
-				Bounds platformToDoodleBounds = thisDoodleNode
-						.sceneToLocal(thisPlatformNode
-								.localToScene(thisPlatformNode
-										.getBoundsInLocal()));
-				//If fall status is true, i.e., after an intersection with a monster, the method will no longer check for
-				//contact between the doodle and the platforms, ensuring the game ends.
-				if (_fallStatus == "FALSE") {
-					if (_velocity > 0
-							&& thisDoodleNode
-									.intersects(platformToDoodleBounds)) {
-						_counter = _counter + 1;
-						if (_myPlatforms.get(i).getType().equals("NORMAL")) {
-							_velocity = Constants.REBOUND_VELOCITY;
-							_bounceType = "NORMAL";
-						} else if (_myPlatforms.get(i).getType()
-								.equals("SPRING")) {
-							_velocity = Constants.REBOUND_VELOCITY
-									* Constants.SPRING_VELOCITY_FACTOR;
-							_bounceType = "SPRING";
-						} else if (_myPlatforms.get(i).getType()
-								.equals("TRAMP")) {
-							_velocity = Constants.REBOUND_VELOCITY
-									* Constants.TRAMP_VELOCITY_FACTOR;
-							_bounceType = "TRAMP";
-						} else if (_myPlatforms.get(i).getType()
-								.equals("SHAKY")) {
-							_velocity = Constants.REBOUND_VELOCITY;
-							_bounceType = "SHAKY";
-							//Platform vanishes at impact
-							_root.getChildren().remove(_myPlatforms.get(i).getPlatformViewer());
-						} else if (_myPlatforms.get(i).getType()
-								.equals("CRACKED")) {
-							_velocity = Constants.REBOUND_VELOCITY
-									* Constants.CRACKED_VELOCITY_FACTOR;
-							_bounceType = "CRACKED";
-						}
-						//Uses semi-randomly defined static constants as increments that dictate how often elements are added.
-						//Counter refers to the number of times the doodle has hit a platform.
-						if (_counter % Constants.BLACK_HOLE_INC == 0) {
-							this.addBlackHole();
-						}
-						if (_counter % Constants.ROCKET_INC == 0) {
-							this.addRocket();
-						}
-						if (_counter % Constants.MONSTER_INC == 0) {
-							this.addMonster();
-						}
-						contact = "TRUE";
-					} else {
-						contact = "FALSE";
-					}
-				}
-				//Determines what to do if the doodle intersects with a black hole. The first 'if' line is simply intended to
-				//avoid a null pointer exception if no black hole is currently added to the game, and ensure that a launched
-				//doodle is immune to the black hole.
-				if (_blackHoleStatus == "ADDED" && _launchStatus != "TRUE") {
-					//Means of putting local black hole bounds in terms of local *doodle* bounds, to enable the local bounds based
-					//intersects method called on doodle to check for contact with the black hole ImageView.
-					Bounds blackHoleToDoodleBounds = thisDoodleNode
-							.sceneToLocal(_blackHoleViewer
-									.localToScene(_blackHoleViewer
-											.getBoundsInLocal()));
-					if (thisDoodleNode.intersects(blackHoleToDoodleBounds)) {
-						//If contact actually occurs, stops all timelines, disconnects the keyboard keys from the game, causes the
-						//doodle to shrink until it appears to have vanished, and shows the end "game over" screen.
-						_blackHoleContact = "TRUE";
-						_verticalTimeline.stop();
-						_lateralTimeline.stop();
-						double bHX = _blackHoleViewer.getLayoutX();
-						double bHY = _blackHoleViewer.getLayoutY();
-						_doodle.setPosition(bHX + 15, bHY + 45);
-						_doodle.getPane().removeEventHandler(
-								KeyEvent.KEY_PRESSED, _activateArrowKeys);
-						_doodle.getPane().removeEventHandler(
-								KeyEvent.KEY_RELEASED, _disconnectArrowKeys);
-						ScaleTransition blackHoleShrink = new ScaleTransition(
-								Duration.seconds(Constants.FADE_OUT),
-								thisDoodleNode);
-						blackHoleShrink.setFromX(1);
-						blackHoleShrink.setFromY(1);
-						blackHoleShrink.setToX(1 / 2);
-						blackHoleShrink.setToY(1 / 2);
-						blackHoleShrink.play();
-						DoodleGame.this.showEndScreen();
-					}
-				}
-				if (_monsterStatus == "ADDED" && _launchStatus != "TRUE") {
-					//Same as immediately above, but simply for the monster ImageView.
-					Bounds monsterToDoodleBounds = thisDoodleNode
-							.sceneToLocal(_monsterViewer
-									.localToScene(_monsterViewer
-									.getBoundsInLocal()));
-					if (thisDoodleNode.intersects(monsterToDoodleBounds)) {
-						//An actively falling doodle
-						_velocity = 100;
-						//Prevents chance contact with platforms on the way down
-						_fallStatus = "TRUE";
-						_monsterTimeline.stop();
-					}
-				}
-				if (_rocketStatus == "ADDED") {
-					//Same bounds conversion as the above two counterparts
-					Bounds rocketToDoodleBounds = thisDoodleNode
-							.sceneToLocal(_rocketViewer
-									.localToScene(_rocketViewer
-											.getBoundsInLocal()));
-					if (thisDoodleNode.intersects(rocketToDoodleBounds)) {
-						_launchStatus = "TRUE";
-						_velocity = Constants.REBOUND_VELOCITY * Constants.ROCKET_VELOCITY_FACTOR;
-						_root.getChildren().remove(_rocketViewer);
-						_thrustViewer.setLayoutY(Constants.SCENE_HEIGHT / 2 + 31);
-						_thrustViewer.setLayoutX(_doodle.getDoodleViewer().getLayoutX());
-						_root.getChildren().add(_thrustViewer);
-						_rocketStatus = "REMOVED";
-						_playStatus = "PAUSED";
-						_fadeThrust.play();
-						_scoreCounter.setTextFill(Color.WHITE);
-						Image space = new Image("Images/space.jpg");
-						_organizer.getBackgroundViewer().setImage(space);
-						_organizer.getBackgroundViewer().setFitWidth(
-								Constants.SCENE_WIDTH + 100);
-						_organizer.getBackgroundViewer().setOpacity(0.6);
-						_doodle.getDoodleViewer().setImage(
-								_doodle.getDefaultDoodle());
-						_doodle.getDoodleViewer().setRotate(0);
-						_doodle.getDoodleViewer().setRotate(
-								_doodle.getDoodleViewer().getRotate() + 90);
-					}
-				}
-				if (_rocketStatus == "REMOVED" & _velocity > -600) {
-					_playStatus = "PLAYING";
-				}
-				if (_rocketStatus == "REMOVED" & _velocity > 0) {
-					_launchStatus = "FALSE";
-					_organizer.getBackgroundViewer().setImage(
-							_organizer.getDefaultBackground());
-					_organizer.getBackgroundViewer().setFitWidth(
-							Constants.SCENE_WIDTH + 52);
-					_organizer.getBackgroundViewer().setOpacity(
-							Constants.BACKGROUND_OPACITY);
-					_scoreCounter.setTextFill(Color.BLACK);
-					_doodle.getDoodleViewer().setRotate(0);
-					_playStatus = "PLAYING";
-				}
-			}
-			if (_bounceType == "TRAMP") {
-				if (_velocity < 0
-						&& _doodle.getDoodleViewer().getRotate() < 355) {
-					_doodle.getDoodleViewer().setRotate(
-							_doodle.getDoodleViewer().getRotate()
-									+ Constants.DOODLE_ROTATE_FACTOR);
-				}
-				if (_doodle.getDoodleViewer().getRotate() == 357) {
-					_doodle.getDoodleViewer().setRotate(
-							_doodle.getDoodleViewer().getRotate() + 3);
-				}
-				if (_velocity > 0
-						&& _doodle.getDoodleViewer().getRotate() == 360) {
-					_doodle.getDoodleViewer().setRotate(0);
+		private class LayoutTimer implements Runnable {
+
+			@Override
+			public void run() {
+				if (_layoutStart > 0) {
+					_frameStats.addLayout(System.nanoTime() - _layoutStart);
+					_layoutStart = 0;
 				}
 			}
-			//********** WATERSHED POINT - If no contact of any kind ocurred, here's what to do:
-			if (contact == "FALSE") {
-				_velocity = (_velocity + (Constants.GRAVITY * Constants.DURATION));
-			}
-			_yPositionFinal = _doodle.getCenterY()
-					+ (_velocity * Constants.DURATION)
-					+ (0.5 * Constants.GRAVITY * (Constants.DURATION * Constants.DURATION));
-			_doodle.setPosition(_doodle.getCenterX(), _yPositionFinal);
-			DoodleGame.this.scroll();
-			//Checks to see if the doodle has fallen below the lower boundary (graphically) of the screen.
-			//If so, ends the game.
-			if (_doodle.getCenterY() > Constants.SCENE_HEIGHT) {
-				DoodleGame.this.showEndScreen();
-				_fallStatus = "TRUE";
-			}
 		}
+	}
+
+	/**
+	Renders and formats a hazard's image (its region of the SpriteAtlas) at its world position.
+	*/
+	private static ImageView createHazardViewer(Hazard hazard) {
+		ImageView hazardViewer = new ImageView();
+		SpriteAtlas.apply(hazardViewer, hazard.getSprite());
+		hazardViewer.setFitWidth(hazard.getWidth());
+		hazardViewer.setPreserveRatio(true);
+		hazardViewer.setSmooth(true);
+		hazardViewer.setCache(true);
+		hazardViewer.setRotate(hazard.getRotate());
+		hazardViewer.setLayoutX(hazard.getX());
+		hazardViewer.setLayoutY(hazard.getY());
+		return hazardViewer;
+	}
+
+	/**
+	Receives the World's events and keeps the scene graph in step with them - one platform ImageView per live
+	platform id, one ImageView per live Hazard - and handles the rocket launch and end of game graphics.
+	*/
+	private class WorldViewUpdater implements WorldListener {
 
 		/**
-		A helper method that loads, renders and formats the black hole image. X layout is based loosely on
-		platform position to ensure the two don't overlap.
+		Renders the new platform with a pooled ImageView in the world layer (in canvas mode, the canvas draws it
+		instead).
 		*/
-		private void addBlackHole() {
-			Image blackHole = new Image("Images/blackhole.png");
-			_blackHoleViewer = new ImageView(blackHole);
-			_blackHoleViewer.setFitWidth(Constants.BLACK_HOLE_WIDTH);
-			_blackHoleViewer.setPreserveRatio(true);
-			_blackHoleViewer.setSmooth(true);
-			_blackHoleViewer.setCache(true);
-			if (_randomX > Constants.SCENE_WIDTH / 2) {
-				_blackHoleViewer.setLayoutX(_randomX - 80);
-			} else if (_randomX < Constants.SCENE_WIDTH / 2) {
-				_blackHoleViewer.setLayoutX(_randomX + 80);
+		@Override
+		public void platformAdded(int id, double x, double y, PlatformType type) {
+			if (_worldCanvas != null) {
+				return;
 			}
-			_blackHoleViewer.setLayoutY(-100);
-			_blackHoleStatus = "ADDED";
-			_root.getChildren().add(_blackHoleViewer);
+			_myPlatforms.show(id, x, y, type);
 		}
 
 		/**
-		A helper method that loads, renders and formats the rocket image. X layout is based loosely on
-		platform position to ensure the two don't overlap.
+		Returns the discarded platform's ImageView to the pool.
 		*/
-		private void addRocket() {
-			Image rocket = new Image("Images/rocket.png");
-			_rocketViewer = new ImageView(rocket);
-			_rocketViewer.setFitWidth(Constants.ROCKET_WIDTH);
-			_rocketViewer.setPreserveRatio(true);
-			_rocketViewer.setSmooth(true);
-			_rocketViewer.setCache(true);
-			_rocketViewer.setRotate(30);
-			if (_randomX > Constants.SCENE_WIDTH / 2) {
-				_rocketViewer.setLayoutX(_randomX - 120);
-			} else if (_randomX < Constants.SCENE_WIDTH / 2) {
-				_rocketViewer.setLayoutX(_randomX + 120);
-			}
-			_rocketViewer.setLayoutY(-100);
-			_rocketStatus = "ADDED";
-			_root.getChildren().add(_rocketViewer);
+		@Override
+		public void platformRemoved(int id) {
+			_myPlatforms.hide(id);
+		}
+
+		/**
+		Shaky platforms vanish from the screen at impact.
+		*/
+		@Override
+		public void platformVanished(int id) {
+			_myPlatforms.hide(id);
 		}
 
 		/**
-		A helper method that loads, renders and formats the monster images. Unlike previous two, however, also randomly
-		selects a monster image to portray. X layout is based loosely on platform position to ensure the two don't overlap.
+		Renders the new hazard with an ImageView in the world layer (in canvas mode, the canvas draws it instead).
 		*/
-		private void addMonster() {
-			_monsterViewer = new ImageView();
-			_monsterViewer.setFitWidth(Constants.MONSTER_WIDTH);
-			_monsterViewer.setPreserveRatio(true);
-			_monsterViewer.setSmooth(true);
-			_monsterViewer.setCache(true);
-			if (_randomX > Constants.SCENE_WIDTH / 2) {
-				_monsterViewer.setLayoutX(_randomX - 40);
-			} else if (_randomX < Constants.SCENE_WIDTH / 2) {
-				_monsterViewer.setLayoutX(_randomX + 40);
+		@Override
+		public void hazardAdded(Hazard hazard) {
+			if (_worldCanvas != null) {
+				return;
 			}
-			_monsterViewer.setLayoutY(-700);
-			_monsterStatus = "ADDED";
-			_root.getChildren().add(_monsterViewer);
-			//Six monsters in total, each with a "left" and a "right" image (flipped horizontally).
-			//Array lets the semi-randomly generated direction int and the randomly generated monster type int
-			//combine to select the proper image.
-			Image[][] monsterImages = new Image[2][6];
-			//"Left" images
-			monsterImages[0][0] = new Image("Images/fangsL.png");
-			monsterImages[0][1] = new Image("Images/grouperL.png");
-			monsterImages[0][2] = new Image("Images/ninjaL.png");
-			monsterImages[0][3] = new Image("Images/santaL.png");
-			monsterImages[0][4] = new Image("Images/squidL.png");
-			monsterImages[0][5] = new Image("Images/zombieL.png");
-			//"Right" images
-			monsterImages[1][0] = new Image("Images/fangsR.png");
-			monsterImages[1][1] = new Image("Images/grouperR.png");
-			monsterImages[1][2] = new Image("Images/ninjaR.png");
-			monsterImages[1][3] = new Image("Images/santaR.png");
-			monsterImages[1][4] = new Image("Images/squidR.png");
-			monsterImages[1][5] = new Image("Images/zombieR.png");
-			String movingDirection = null;
-			int directionInt = 0;
-			//Ensures initial movement covers larger half of the screen (if monster's on the right, move left, converse true)
-			if (_monsterViewer.getLayoutX() > Constants.SCENE_WIDTH
-					- Constants.MONSTER_WIDTH / 2) {
-				movingDirection = "LEFT";
-				directionInt = 0;
-			} else if (_monsterViewer.getLayoutX() <= Constants.SCENE_WIDTH
-					- Constants.MONSTER_WIDTH / 2) {
-				movingDirection = "RIGHT";
-				directionInt = 1;
+			ImageView hazardViewer = DoodleGame.createHazardViewer(hazard);
+			_hazardViewers.put(hazard, hazardViewer);
+			_worldLayer.getChildren().add(hazardViewer);
+		}
+
+		/**
+		Removes the discarded hazard's ImageView from the root.
+		*/
+		@Override
+		public void hazardRemoved(Hazard hazard) {
+			ImageView hazardViewer = _hazardViewers.remove(hazard);
+			if (hazardViewer != null) {
+				_worldLayer.getChildren().remove(hazardViewer);
 			}
-			//Integer determines which "species" of monster chosen
-			int monsterInt = (int) (Math.random() * 6);
-			//Specific monster image (1 of 12) is selected, ensuring that the monster type picked is facing
-			//in the direction assigned.
-			_monsterType = monsterImages[directionInt][monsterInt];
-			//Selected image is added to the monster ImageView
-			_monsterViewer.setImage(_monsterType);
-			_monsterTimeline.getKeyFrames().clear();
-			//Semi-randomly determines the monster's velocity
-			int speedFactor = 1 + (int) (Math.random() * 6);
-			KeyFrame pacing = new KeyFrame(Duration.seconds(Constants.DURATION
-					* speedFactor / 2),
-					new MonsterPacerHandler(movingDirection));
-			_monsterTimeline.getKeyFrames().add(pacing);
-			//Determines whether or not the monster will be static or mobile (favoring mobile)
-			int movementInt = (int) (Math.random() * 3);
-			switch (movementInt) {
-			case 0:
-				_monsterTimeline.stop();
-				break;
-			case 1:
-			case 2:
-				_monsterTimeline.play();
-				break;
+		}
+
+		/**
+		Nothing to show for the hit itself - what follows from it (a launch, a fall or the end of the game) has events
+		of its own.
+		*/
+		@Override
+		public void hazardHit(Hazard hazard) {
+		}
+
+		/**
+		Shows the rocket's thrust below the doodle, swaps the background for space and turns the doodle sideways.
+		*/
+		@Override
+		public void rocketLaunched() {
+			_thrustViewer.setLayoutY(Constants.SCENE_HEIGHT / 2 + 31);
+			_thrustViewer.setLayoutX(_doodle.getDoodleViewer().getLayoutX());
+			_thrustViewer.setOpacity(1.0);
+			_thrustViewer.setVisible(true);
+			_fadeThrust.playFromStart();
+			_hud.setScoreStyle("WHITE");
+			Image space = SpriteCache.get("Images/space.jpg");
+			_organizer.getBackgroundViewer().setImage(space);
+			_organizer.getBackgroundViewer().setFitWidth(
+					Constants.SCENE_WIDTH + 100);
+			_organizer.getBackgroundViewer().setOpacity(0.6);
+			_doodle.setSprite(_doodle.getDefaultDoodle());
+			_doodle.getDoodleViewer().setRotate(0);
+			_doodle.getDoodleViewer().setRotate(
+					_doodle.getDoodleViewer().getRotate() + 90);
+		}
+
+		/**
+		Returns the background to its graph paper appearance once the launched doodle begins to fall.
+		*/
+		@Override
+		public void rocketLanded() {
+			_organizer.getBackgroundViewer().setImage(
+					_organizer.getDefaultBackground());
+			_organizer.getBackgroundViewer().setFitWidth(
+					Constants.SCENE_WIDTH + 52);
+			_organizer.getBackgroundViewer().setOpacity(
+					Constants.BACKGROUND_OPACITY);
+			_hud.setScoreStyle("BLACK");
+			_doodle.getDoodleViewer().setRotate(0);
+		}
+
+		/**
+		If the doodle was swallowed by a black hole, stops all timelines, disconnects the keyboard keys from the game
+		and causes the doodle to shrink until it appears to have vanished. In either case shows the end "game over"
+		screen.
+		*/
+		@Override
+		public void gameOver(String cause) {
+			if (cause == "BLACK_HOLE") {
+				_blackHoleContact = "TRUE";
+				_gameLoop.stop();
+				_keys.clear();
+				_input.setDirection(null);
+				_doodle.setPosition(_world.getDoodleX(), _world.getDoodleScreenY());
+				_doodle.getPane().removeEventHandler(
+						KeyEvent.KEY_PRESSED, _activateArrowKeys);
+				_doodle.getPane().removeEventHandler(
+						KeyEvent.KEY_RELEASED, _disconnectArrowKeys);
+				_blackHoleShrink.playFromStart();
 			}
+			DoodleGame.this.showEndScreen();
 		}
 	}
 
 	/**
-	This method really pertains to formatting of graphical elements to ensure that the end of game screen has
-	a visible score label and clickable buttons. Also, adds a white background pane for visibility and stops the
-	vertical timeline to ensure the game ends properly.
+	Stops the game loop and shows the Hud's end of game screen - with the black hole that swallowed the doodle, if one
+	did, kept visible above the white background - then prints the game's reports and saves its recording.
 	*/
 	public void showEndScreen() {
-		_verticalTimeline.stop();
-		_organizer.getWhiteBackgroundPane().setVisible(true);
-		if (_blackHoleStatus == "ADDED") {
-			_root.getChildren().remove(_blackHoleViewer);
-		}
-		_root.getChildren().removeAll(_doodle.getPane(),
-				_organizer.getWhiteBackgroundPane(),
-				_organizer.getGameOverPane(), _organizer.getQuitButton(),
-				_scoreCounter);
-		_root.getChildren().add(_organizer.getWhiteBackgroundPane());
-		_scoreCounter.setTextFill(Color.RED);
-		_scoreCounter.setFont(Font.font("Courier New", FontWeight.BOLD, 35));
-		_scoreCounter.setLayoutX(_scoreCounter.getLayoutX() - 27);
-		_root.getChildren().add(_scoreCounter);
-		if (_blackHoleStatus == "ADDED" && _blackHoleContact == "TRUE") {
-			_root.getChildren().add(_blackHoleViewer);
-		}
-		_root.getChildren().add(_doodle.getPane());
-		_organizer.getGameOverPane().setLayoutY(-20);
-		//Preserves formatting of score label
-		if (_currentScore >= 0 && _currentScore < 10) {
-			_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-					- Constants.TEXT_OFFSET);
-		} else if (_currentScore >= 10 && _currentScore < 100) {
-			_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-					- Constants.TEXT_OFFSET - 20);
-		} else if (_currentScore >= 100 && _currentScore < 1000) {
-			_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-					- Constants.TEXT_OFFSET - 40);
-		} else if (_currentScore >= 1000 && _currentScore < 10000) {
-			_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-					- Constants.TEXT_OFFSET - 60);
-		} else if (_currentScore >= 10000 && _currentScore < 100000) {
-			_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-					- Constants.TEXT_OFFSET - 80);
-		} else if (_currentScore >= 100000 && _currentScore < 1000000) {
-			_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-					- Constants.TEXT_OFFSET - 100);
-		} else if (_currentScore >= 1000000 && _currentScore < 10000000) {
-			_scoreCounter.setLayoutX(Constants.SCENE_WIDTH
-					- Constants.TEXT_OFFSET - 120);
-		}
-		_root.getChildren().addAll(_organizer.getGameOverPane(),
-				_organizer.getQuitButton());
-		_organizer.getGameOverPane().setVisible(true);
+		_gameLoop.stop();
+		Hazard blackHole = null;
+		if (_blackHoleContact == "TRUE") {
+			blackHole = _world.getSwallowingBlackHole();
+		}
+		double screenY = 0;
+		if (blackHole != null) {
+			screenY = blackHole.getY() - _world.getCameraY();
+		}
+		_hud.showGameOver(_currentScore, blackHole, screenY);
+		System.out.println(SpriteCache.getReport());
+		System.out.println(SpriteAtlas.getReport());
+		System.out.println(_frameStats.getReport());
+		System.out.println(_keys.getReport());
+		if (Constants.RENDER_MODE == "COMPARE") {
+			this.compareRenderModes();
+		}
+		if (_recording != null && Constants.RECORD_FILE != null) {
+			try {
+				_recording.save(Constants.RECORD_FILE);
+				System.out.println("Recorded seed " + _recording.getSeed() + " and " + _recording.size()
+						+ " input events to " + Constants.RECORD_FILE);
+			} catch (IOException e) {
+				System.err.println("Could not save recording " + Constants.RECORD_FILE + ": " + e.getMessage());
+			}
+		}
 	}
 
 	/**
-	Connected to the monster timeline, this private EventHandler processes the movement of the monster
-	and receives a string to dictate the direction.
+	Runs a render mode comparison (-Ddoodle.render=COMPARE). After a round drawn with nodes, the same game - its seed
+	and every input - is replayed drawn onto the canvas, starting as soon as the key hint fades; after that round the
+	two rounds' frame timings are printed together.
 	*/
-	private class MonsterPacerHandler implements EventHandler<ActionEvent> {
-		private String _direction;
-
-		/**
-		Constructor establishes association
-		*/
-		public MonsterPacerHandler(String direction) {
-			_direction = direction;
+	private void compareRenderModes() {
+		if (_renderMode == "NODES") {
+			_comparedStats = _frameStats;
+			_comparedGame = _replay;
+			if (_comparedGame == null) {
+				_comparedGame = _recording;
+			}
+			System.out.println("Replaying seed " + _world.getSeed() + " drawn onto the canvas to compare");
+			javafx.application.Platform.runLater(new ComparisonRound());
+		} else if (_comparedStats != null) {
+			System.out.println("Render mode comparison, seed " + _world.getSeed() + ", " + _world.getTick()
+					+ " ticks:");
+			System.out.println("  " + _comparedStats.getReport());
+			System.out.println("  " + _frameStats.getReport());
+			_comparedStats = null;
+			_comparedGame = null;
 		}
+	}
+
+	/**
+	Starts the second round of a render mode comparison.
+	*/
+	private class ComparisonRound implements Runnable {
 
-		/**
-		The handle method uses if statements to determine direction if incremented layout shifting, based on the association
-		with the string initially passed to it.
-		*/
 		@Override
-		public void handle(ActionEvent event) {
-			if (_direction == "RIGHT") {
-				_monsterViewer.setLayoutX(_monsterViewer.getLayoutX() + 2);
-				if (_monsterViewer.getLayoutX() >= Constants.SCENE_WIDTH) {
-					_monsterViewer.setLayoutX(0 - Constants.MONSTER_WIDTH);
-				}
-			} else if (_direction == "LEFT") {
-				_monsterViewer.setLayoutX(_monsterViewer.getLayoutX() - 2);
-				if (_monsterViewer.getLayoutX() <= 0 - Constants.MONSTER_WIDTH) {
-					_monsterViewer.setLayoutX(Constants.SCENE_WIDTH);
-				}
-			}
-			event.consume();
+		public void run() {
+			_organizer.reset();
 		}
 	}
 
 	/**
-	This private EventHandler handles user keyboard input that dictates both lateral doodle movement and pause & play
+	This private EventHandler handles user keyboard input that dictates both lateral doodle movement and pause & play,
+	and toggles the profiler overlay with F3
 	*/
 	private class LateralMoveInitiator implements EventHandler<KeyEvent> {
-		private Pane _pausePane;
-		private Pane _playPane;
-		private FadeTransition _fadePlay;
-		private FadeTransition _fadePause;
 
 		/**
 		*/
 		@Override
 		public void handle(KeyEvent event) {
 			KeyCode keyPressed = event.getCode();
-			this.setUpPauseAndPlay();
-			//Move left
+			//Move left or right - only noted here, the game loop polls the keys held before each tick
 			if (keyPressed == KeyCode.LEFT) {
-				if (_playStatus == "PLAYING") {
-					Image doodleL = new Image("Images/doodleL.png");
-					_doodle.getDoodleViewer().setImage(doodleL);
-					_lateralTimeline.stop();
-					_lateralTimeline.getKeyFrames().clear();
-					_lateralTimeline.getKeyFrames().add(_moveLeft);
-					_lateralTimeline.play();
+				if (_replay == null) {
+					_keys.press(KeyState.LEFT, System.nanoTime());
 				}
-			//Move right
 			} else if (keyPressed == KeyCode.RIGHT) {
-				if (_playStatus == "PLAYING") {
-					Image doodleR = new Image("Images/doodleR.png");
-					_doodle.getDoodleViewer().setImage(doodleR);
-					_lateralTimeline.stop();
-					_lateralTimeline.getKeyFrames().clear();
-					_lateralTimeline.getKeyFrames().add(_moveRight);
-					_lateralTimeline.play();
+				if (_replay == null) {
+					_keys.press(KeyState.RIGHT, System.nanoTime());
 				}
 			//Pause
 			} else if (keyPressed == KeyCode.DOWN) {
-				_root.getChildren().remove(_organizer.getQuitButton());
-				_verticalTimeline.stop();
-				_playStatus = "PAUSED";
-				_pausePane.setVisible(true);
-				_pausePane.setOpacity(1.0);
-				_fadePause.play();
-				_root.getChildren().add(_organizer.getQuitButton());
+				DoodleGame.this.pause();
+				event.consume();
+			//Profiler overlay
+			} else if (keyPressed == KeyCode.F3) {
+				_profiler.toggle();
 				event.consume();
 			//Play
 			} else if (keyPressed == KeyCode.UP) {
-				_root.getChildren().remove(_organizer.getKeys());
-				_root.getChildren().remove(_organizer.getQuitButton());
-				_verticalTimeline.play();
-				_playStatus = "PLAYING";
-				_pausePane.setVisible(false);
-				_playPane.setVisible(true);
-				_fadePlay.play();
-				_root.getChildren().add(_organizer.getQuitButton());
+				DoodleGame.this.resume();
 				event.consume();
 			}
 		}
-
-		/**
-		Helper method within the private class that generates the graphical pause and play buttons that appear onscreen
-		as well as the fade transitions that run each time the up or down keys are pressed.
-		*/
-		private void setUpPauseAndPlay() {
-			Image paused = new Image("Images/paused.png");
-			ImageView pauseViewer = new ImageView(paused);
-			pauseViewer.setSmooth(true);
-			pauseViewer.setCache(true);
-			pauseViewer.setPreserveRatio(true);
-			pauseViewer.setFitWidth(80);
-			pauseViewer.setLayoutX(Constants.SCENE_WIDTH / 2 - 40);
-			pauseViewer.setLayoutY(Constants.SCENE_HEIGHT / 2 - 40);
-			pauseViewer.setOpacity(0.0);
-			_pausePane = new Pane();
-			_pausePane.getChildren().add(pauseViewer);
-			_pausePane.setVisible(false);
-			_root.getChildren().add(_pausePane);
-			Image play = new Image("Images/play.png");
-
-			ImageView playViewer = new ImageView(play);
-			playViewer.setSmooth(true);
-			playViewer.setCache(true);
-			playViewer.setPreserveRatio(true);
-			playViewer.setFitWidth(80);
-			playViewer.setLayoutX(Constants.SCENE_WIDTH / 2 - 40);
-			playViewer.setLayoutY(Constants.SCENE_HEIGHT / 2 - 40);
-			_playPane = new Pane();
-			_playPane.getChildren().add(playViewer);
-			_playPane.setVisible(false);
-			_root.getChildren().add(_playPane);
-
-			_fadePlay = new FadeTransition(Duration.seconds(0.8), playViewer);
-			_fadePlay.setFromValue(1.0);
-			_fadePlay.setToValue(0.0);
-
-			_fadePause = new FadeTransition(Duration.seconds(0.8), pauseViewer);
-			_fadePause.setFromValue(1.0);
-			_fadePause.setToValue(0.0);
-		}
-
 	}
 
 	/**
-	Ensures user control over lateral movement of doodle by stopping lateral timeline on key release
+	Ensures user control over lateral movement of doodle by releasing the arrow key in the key state
 	*/
 	private class LateralMoveInhibitor implements EventHandler<KeyEvent> {
 
 		/**
-		When either the left or right key is released, the lateral timeline is stopped, until it is
-		reinitiated with a fresh keypress.
+		When either the left or right key is released, the doodle stops moving that way from the next tick on - or turns
+		back the other way, if that arrow is still held.
 		*/
 		@Override
 		public void handle(KeyEvent event) {
 			KeyCode keyReleased = event.getCode();
-			if (keyReleased == KeyCode.LEFT | keyReleased == KeyCode.RIGHT) {
-				_lateralTimeline.stop();
+			if (_replay == null) {
+				if (keyReleased == KeyCode.LEFT) {
+					_keys.release(KeyState.LEFT, System.nanoTime());
+				} else if (keyReleased == KeyCode.RIGHT) {
+					_keys.release(KeyState.RIGHT, System.nanoTime());
+				}
 			}
 			event.consume();
 		}
 	}
-	
-	private class RemoveThrustHandler implements EventHandler<ActionEvent> {
-		
-		@Override
-		public void handle(ActionEvent event) {
-			_root.getChildren().remove(_thrustViewer);
-		}
-	
-	}
 
-	/**
-	Handles the technical lateral movement of the doodle.
-	*/
-	private class LateralMoveHandler implements EventHandler<ActionEvent> {
-		private String _direction;
-
-		/**
-		Constructor recieves a string as a direction assignment, and creates an association
-		*/
-		public LateralMoveHandler(String direction) {
-			_direction = direction;
-		}
+	private class RemoveThrustHandler implements EventHandler<ActionEvent> {
 
-		/**
-		Depending on the direction input received, calls on the appropriate helper method.
-		*/
 		@Override
 		public void handle(ActionEvent event) {
-			if (_direction == "LEFT") {
-				this.moveLeft();
-			} else if (_direction == "RIGHT") {
-				this.moveRight();
-			}
-			event.consume();
+			_thrustViewer.setVisible(false);
 		}
 
-		/**
-		Directly moves the doodle imageview  left by a constant-defined increment each time handle is called
-		*/
-		public void moveLeft() {
-			if (_doodle.getCenterX() <= 0) {
-				_doodle.setPosition(Constants.SCENE_WIDTH, _doodle.getCenterY());
-			}
-			_doodle.setPosition(_doodle.getCenterX() - Constants.LAT_PXL_INCR,
-					_doodle.getCenterY());
-		}
-
-		/**
-		Directly moves the doodle imageview right by a constant-defined increment each time handle is called
-		*/
-		public void moveRight() {
-			if (_doodle.getCenterX() >= Constants.SCENE_WIDTH) {
-				_doodle.setPosition(0, _doodle.getCenterY());
-			}
-			_doodle.setPosition(_doodle.getCenterX() + Constants.LAT_PXL_INCR,
-					_doodle.getCenterY());
-		}
 	}
 
 }
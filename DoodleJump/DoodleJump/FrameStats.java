@@ -0,0 +1,145 @@
+package DoodleJump;
+
+/**
+FrameStats measures what each rendered frame costs, so the node-based and canvas render modes can be compared on the
+same machine. For every frame it records the time spent bringing the view up to date (moving nodes, or drawing the
+canvas), the time JavaFX then spends on CSS and layout before the frame is synced for rendering, the interval since the
+previous frame and the number of live platforms and hazards the frame showed. Only running totals and maxima are kept,
+along with a LatencyHistogram of each frame's whole render cost (update plus CSS and layout) and one of the time each
+World step takes, so recording allocates nothing.
+*/
+public class FrameStats {
+	private String _mode;
+	private long _frames;
+	private long _updateNanos;
+	private long _maxUpdateNanos;
+	private long _layouts;
+	private long _layoutNanos;
+	private long _maxLayoutNanos;
+	private long _intervals;
+	private long _intervalNanos;
+	private long _maxIntervalNanos;
+	private long _entities;
+	private int _maxEntities;
+	private long _lastUpdateNanos;
+	private LatencyHistogram _renderHistogram;
+	private LatencyHistogram _tickHistogram;
+	private long _ticks;
+
+	/**
+	Constructor that records which render mode is being measured.
+	*/
+	public FrameStats(String mode) {
+		_mode = mode;
+		_renderHistogram = new LatencyHistogram(Constants.PROFILER_WINDOW);
+		_tickHistogram = new LatencyHistogram(Constants.PROFILER_WINDOW);
+	}
+
+	/**
+	Records the time a step of the World took.
+	*/
+	public void addTick(long nanos) {
+		_ticks = _ticks + 1;
+		_tickHistogram.record(nanos);
+	}
+
+	/**
+	Records the time a frame took to update the view.
+	*/
+	public void addUpdate(long nanos) {
+		_frames = _frames + 1;
+		_updateNanos = _updateNanos + nanos;
+		_maxUpdateNanos = Math.max(_maxUpdateNanos, nanos);
+		_lastUpdateNanos = nanos;
+	}
+
+	/**
+	Records the time a frame's CSS and layout passes took, completing the frame's render cost.
+	*/
+	public void addLayout(long nanos) {
+		_layouts = _layouts + 1;
+		_layoutNanos = _layoutNanos + nanos;
+		_maxLayoutNanos = Math.max(_maxLayoutNanos, nanos);
+		_renderHistogram.record(_lastUpdateNanos + nanos);
+	}
+
+	/**
+	Records the time between a frame and the one before it.
+	*/
+	public void addInterval(long nanos) {
+		_intervals = _intervals + 1;
+		_intervalNanos = _intervalNanos + nanos;
+		_maxIntervalNanos = Math.max(_maxIntervalNanos, nanos);
+	}
+
+	/**
+	Records the number of live platforms and hazards in a frame.
+	*/
+	public void addEntities(int count) {
+		_entities = _entities + count;
+		_maxEntities = Math.max(_maxEntities, count);
+	}
+
+	/**
+	Accessor method that returns the render mode measured.
+	*/
+	public String getMode() {
+		return _mode;
+	}
+
+	/**
+	Accessor method that returns the number of frames recorded.
+	*/
+	public long getFrames() {
+		return _frames;
+	}
+
+	/**
+	Accessor method that returns the number of World steps recorded.
+	*/
+	public long getTicks() {
+		return _ticks;
+	}
+
+	/**
+	Accessor method that returns the histogram of recent World steps' duration.
+	*/
+	public LatencyHistogram getTickHistogram() {
+		return _tickHistogram;
+	}
+
+	/**
+	Accessor method that returns the histogram of recent frames' render cost.
+	*/
+	public LatencyHistogram getRenderHistogram() {
+		return _renderHistogram;
+	}
+
+	/**
+	Returns a one line summary - mean and maximum of each measurement, in milliseconds - for printing at the end of a
+	game, along with the mean and maximum number of platforms and hazards per frame. Run a game in each mode (or both
+	at once with -Ddoodle.render=COMPARE) and the two lines can be compared side by side.
+	*/
+	public String getReport() {
+		double entities = 0;
+		if (_frames > 0) {
+			entities = (double) _entities / _frames;
+		}
+		return "Render mode " + _mode + ": " + _frames + " frames, update "
+				+ FrameStats.format(_updateNanos, _frames, _maxUpdateNanos) + ", CSS/layout "
+				+ FrameStats.format(_layoutNanos, _layouts, _maxLayoutNanos) + ", frame interval "
+				+ FrameStats.format(_intervalNanos, _intervals, _maxIntervalNanos) + ", entities "
+				+ String.format("%.1f / %d", entities, _maxEntities);
+	}
+
+	/**
+	Formats a total over a count as "mean / max ms".
+	*/
+	private static String format(long totalNanos, long count, long maxNanos) {
+		double mean = 0;
+		if (count > 0) {
+			mean = totalNanos / 1e6 / count;
+		}
+		return String.format("%.3f / %.3f ms", mean, maxNanos / 1e6);
+	}
+}
@@ -0,0 +1,216 @@
+package DoodleJump;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+GameMetrics publishes the running game's engine metrics over JMX, registered with the platform MBean server as
+"DoodleJump:type=GameMetrics", so JConsole or any local JMX client can watch a game from outside the process: the ticks
+per second and the percentiles of a tick's duration, the node, platform, platform view, hazard and sprite cache
+counts, the score and the play status. It can also pause and resume the game and dump a snapshot of the World.
+
+JMX calls arrive on the server's own threads, while the game lives on the JavaFX thread, so the two never share game
+state. The game loop copies the metrics into volatile fields here at most every Constants.PROFILER_REFRESH seconds
+(a handful of primitive writes, allocating nothing), and the attributes only read those copies; the operations are
+handed to the JavaFX thread with runLater, the snapshot waiting for its result.
+*/
+public class GameMetrics implements GameMetricsMBean {
+	private static final String NAME = "DoodleJump:type=GameMetrics";
+	private static final long SNAPSHOT_TIMEOUT = 5; // seconds to wait for the JavaFX thread to dump the World
+
+	private DoodleGame _game;
+	private long _lastPublish;
+	private long _lastTicks;
+	private volatile long _publishedAt;
+	private volatile double _ticksPerSecond;
+	private volatile double _tickP50Micros;
+	private volatile double _tickP99Micros;
+	private volatile double _tickMaxMicros;
+	private volatile int _rootChildCount;
+	private volatile int _platformCount;
+	private volatile int _platformViewCount;
+	private volatile int _hazardCount;
+	private volatile int _score;
+	private volatile String _playStatus;
+
+	/**
+	Constructor that associates the metrics with the game they are taken from.
+	*/
+	public GameMetrics(DoodleGame game) {
+		_game = game;
+		_lastPublish = -1;
+		_lastTicks = 0;
+		_publishedAt = -1;
+		_playStatus = "PLAYING";
+	}
+
+	/**
+	Registers the metrics with the platform MBean server. A failure is reported and the game runs on without them.
+	*/
+	public void register() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(NAME));
+		} catch (JMException e) {
+			System.err.println("Could not register " + NAME + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	Copies the game's current metrics for JMX clients to read, unless they were copied within the last
+	Constants.PROFILER_REFRESH seconds (now being the pulse's timestamp in nanoseconds). Called by the game loop on the
+	JavaFX thread; frameStats must be the one the loop records its steps to.
+	*/
+	public void publish(long now, World world, FrameStats frameStats, int rootChildCount, int platformViewCount) {
+		if (_lastPublish >= 0 && now - _lastPublish < Constants.PROFILER_REFRESH * 1e9) {
+			return;
+		}
+		long ticks = frameStats.getTicks();
+		if (_lastPublish >= 0 && ticks >= _lastTicks) {
+			_ticksPerSecond = (ticks - _lastTicks) / ((now - _lastPublish) / 1e9);
+		}
+		_lastPublish = now;
+		_lastTicks = ticks;
+		LatencyHistogram tickHistogram = frameStats.getTickHistogram();
+		_tickP50Micros = tickHistogram.getPercentile(0.5) / 1e3;
+		_tickP99Micros = tickHistogram.getPercentile(0.99) / 1e3;
+		_tickMaxMicros = tickHistogram.getMax() / 1e3;
+		_rootChildCount = rootChildCount;
+		_platformCount = world.getPlatforms().size();
+		_platformViewCount = platformViewCount;
+		_hazardCount = world.getHazards().size();
+		_score = world.getScore();
+		_playStatus = world.getPlayStatus();
+		_publishedAt = System.nanoTime();
+	}
+
+	/**
+	Starts the ticks per second afresh, for when the game loop starts again after being stopped.
+	*/
+	public void restart() {
+		_lastPublish = -1;
+	}
+
+	@Override
+	public double getTicksPerSecond() {
+		if (_publishedAt < 0 || System.nanoTime() - _publishedAt > 2 * Constants.PROFILER_REFRESH * 1e9) {
+			return 0;
+		}
+		return _ticksPerSecond;
+	}
+
+	@Override
+	public double getTickP50Micros() {
+		return _tickP50Micros;
+	}
+
+	@Override
+	public double getTickP99Micros() {
+		return _tickP99Micros;
+	}
+
+	@Override
+	public double getTickMaxMicros() {
+		return _tickMaxMicros;
+	}
+
+	@Override
+	public int getRootChildCount() {
+		return _rootChildCount;
+	}
+
+	@Override
+	public int getPlatformCount() {
+		return _platformCount;
+	}
+
+	@Override
+	public int getPlatformViewCount() {
+		return _platformViewCount;
+	}
+
+	@Override
+	public int getHazardCount() {
+		return _hazardCount;
+	}
+
+	@Override
+	public int getSpriteCacheSize() {
+		return SpriteCache.getSize();
+	}
+
+	@Override
+	public int getScore() {
+		return _score;
+	}
+
+	@Override
+	public String getPlayStatus() {
+		return _playStatus;
+	}
+
+	@Override
+	public void pause() {
+		javafx.application.Platform.runLater(new PlayStatusChange("PAUSED"));
+	}
+
+	@Override
+	public void resume() {
+		javafx.application.Platform.runLater(new PlayStatusChange("PLAYING"));
+	}
+
+	@Override
+	public String dumpSnapshot() {
+		FutureTask<String> snapshot = new FutureTask<String>(new Snapshot());
+		javafx.application.Platform.runLater(snapshot);
+		try {
+			return snapshot.get(SNAPSHOT_TIMEOUT, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return "Interrupted while waiting for the snapshot";
+		} catch (ExecutionException e) {
+			return "Could not take the snapshot: " + e.getCause();
+		} catch (TimeoutException e) {
+			return "The JavaFX thread did not take the snapshot within " + SNAPSHOT_TIMEOUT + " s";
+		}
+	}
+
+	/**
+	Pauses or resumes the game on the JavaFX thread.
+	*/
+	private class PlayStatusChange implements Runnable {
+		private String _status;
+
+		/**
+		Constructor that records the play status to change to.
+		*/
+		public PlayStatusChange(String status) {
+			_status = status;
+		}
+
+		@Override
+		public void run() {
+			if (_status == "PAUSED") {
+				_game.pause();
+			} else {
+				_game.resume();
+			}
+		}
+	}
+
+	/**
+	Dumps the World's state on the JavaFX thread.
+	*/
+	private class Snapshot implements Callable<String> {
+
+		@Override
+		public String call() {
+			return _game.getWorld().getSnapshot();
+		}
+	}
+}
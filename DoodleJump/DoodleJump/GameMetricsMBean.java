@@ -0,0 +1,78 @@
+package DoodleJump;
+
+/**
+The management interface of GameMetrics, as JMX requires of a standard MBean: every getter is published as a read-only
+attribute and every other method as an operation.
+*/
+public interface GameMetricsMBean {
+
+	/**
+	Returns the World steps taken per second over the latest refresh, or 0 while the game loop is stopped.
+	*/
+	public double getTicksPerSecond();
+
+	/**
+	Returns the median time of a recent World step, in microseconds.
+	*/
+	public double getTickP50Micros();
+
+	/**
+	Returns the 99th percentile time of a recent World step, in microseconds.
+	*/
+	public double getTickP99Micros();
+
+	/**
+	Returns the longest recent World step, in microseconds.
+	*/
+	public double getTickMaxMicros();
+
+	/**
+	Returns the number of nodes directly under the root pane.
+	*/
+	public int getRootChildCount();
+
+	/**
+	Returns the number of live platforms in the World.
+	*/
+	public int getPlatformCount();
+
+	/**
+	Returns the number of platforms shown by an ImageView, which is 0 when the world is drawn onto a Canvas.
+	*/
+	public int getPlatformViewCount();
+
+	/**
+	Returns the number of live hazards.
+	*/
+	public int getHazardCount();
+
+	/**
+	Returns the number of images held by the SpriteCache.
+	*/
+	public int getSpriteCacheSize();
+
+	/**
+	Returns the current score.
+	*/
+	public int getScore();
+
+	/**
+	Returns "PLAYING" or "PAUSED".
+	*/
+	public String getPlayStatus();
+
+	/**
+	Pauses the game, as the down key does.
+	*/
+	public void pause();
+
+	/**
+	Resumes the game, as the up key does.
+	*/
+	public void resume();
+
+	/**
+	Returns a dump of the World's state.
+	*/
+	public String dumpSnapshot();
+}
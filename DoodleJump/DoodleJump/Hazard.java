@@ -0,0 +1,203 @@
+package DoodleJump;
+
+/**
+Hazard is the plain-Java state of a non-platform game element: a black hole, a rocket or a monster. Like the
+PlatformStore it holds no JavaFX objects, only a type tag, a position, a size and - for monsters - the pacing state
+that used to live in a separate timeline. Its collision rectangle (which accounts for the rocket's tilt the same way
+the scene graph did, by using the axis-aligned box around the rotated image) is cached and kept in sync with its
+position.
+*/
+public class Hazard {
+	private String _type;
+	private double _x;
+	private double _y;
+	private double _width;
+	private double _height;
+	private double _rotate;
+	private double _boundsX;
+	private double _boundsY;
+	private double _boundsWidth;
+	private double _boundsHeight;
+
+	private String _direction;
+	private int _species;
+	private boolean _moving;
+	private double _pacePeriod;
+	private double _paceClock;
+
+	public static final int MONSTER_SPECIES = 6;
+	//Six monsters in total, each with a "left" and a "right" image (flipped horizontally), indexed by direction and
+	//species.
+	private static final String[][] MONSTER_SPRITES = {
+			{ "Images/fangsL.png", "Images/grouperL.png", "Images/ninjaL.png", "Images/santaL.png",
+					"Images/squidL.png", "Images/zombieL.png" },
+			{ "Images/fangsR.png", "Images/grouperR.png", "Images/ninjaR.png", "Images/santaR.png",
+					"Images/squidR.png", "Images/zombieR.png" } };
+
+	/**
+	Constructor that records the type tag ("BLACK_HOLE", "ROCKET" or "MONSTER"), position, size and rotation (in
+	degrees) of the new hazard.
+	*/
+	public Hazard(String type, double x, double y, double width, double height, double rotate) {
+		_type = type;
+		_x = x;
+		_y = y;
+		_width = width;
+		_height = height;
+		_rotate = rotate;
+		_moving = false;
+		_boundsWidth = Collision.rotatedWidth(width, height, rotate);
+		_boundsHeight = Collision.rotatedHeight(width, height, rotate);
+		this.updateBounds();
+	}
+
+	/**
+	Moves the cached collision rectangle to match the hazard's position. The rotated box shares the image's center.
+	*/
+	private void updateBounds() {
+		_boundsX = _x + (_width - _boundsWidth) / 2;
+		_boundsY = _y + (_height - _boundsHeight) / 2;
+	}
+
+	/**
+	Mutator method used for monsters, setting the direction in which it paces, its "species" (which of the six monster
+	images it uses), whether it moves at all, and the number of seconds between each 2 pixel step.
+	*/
+	public void setPacing(String direction, int species, boolean moving, double pacePeriod) {
+		_direction = direction;
+		_species = species;
+		_moving = moving;
+		_pacePeriod = pacePeriod;
+		_paceClock = 0;
+	}
+
+	/**
+	Advances a moving monster by the amount of time passed in, taking one 2 pixel step for every elapsed pace period
+	and wrapping around the edges of the screen.
+	*/
+	public void pace(double dt) {
+		if (!_moving) {
+			return;
+		}
+		_paceClock = _paceClock + dt;
+		while (_paceClock >= _pacePeriod) {
+			_paceClock = _paceClock - _pacePeriod;
+			if (_direction == "RIGHT") {
+				_x = _x + 2;
+				if (_x >= Constants.SCENE_WIDTH) {
+					_x = 0 - Constants.MONSTER_WIDTH;
+				}
+				this.updateBounds();
+			} else if (_direction == "LEFT") {
+				_x = _x - 2;
+				if (_x <= 0 - Constants.MONSTER_WIDTH) {
+					_x = Constants.SCENE_WIDTH;
+				}
+				this.updateBounds();
+			}
+		}
+	}
+
+	/**
+	Checks whether the rectangle passed in overlaps this hazard's cached collision rectangle.
+	*/
+	public boolean intersects(double x, double y, double width, double height) {
+		return Collision.intersects(x, y, width, height, _boundsX, _boundsY, _boundsWidth, _boundsHeight);
+	}
+
+	/**
+	Accessor method that returns the hazard's type tag.
+	*/
+	public String getType() {
+		return _type;
+	}
+
+	/**
+	Accessor method that returns the hazard's x location.
+	*/
+	public double getX() {
+		return _x;
+	}
+
+	/**
+	Accessor method that returns the hazard's y location.
+	*/
+	public double getY() {
+		return _y;
+	}
+
+	/**
+	Mutator method that sets the position of the hazard to the x and y doubles passed in.
+	*/
+	public void setPosition(double x, double y) {
+		_x = x;
+		_y = y;
+		this.updateBounds();
+	}
+
+	/**
+	Accessor method that returns the width the hazard's image is drawn at.
+	*/
+	public double getWidth() {
+		return _width;
+	}
+
+	/**
+	Accessor method that returns the height of the hazard.
+	*/
+	public double getHeight() {
+		return _height;
+	}
+
+	/**
+	Returns the path of the hazard's image - for monsters, the image (1 of 12) matching both its species and the
+	direction it is facing.
+	*/
+	public String getSprite() {
+		if (_type == "BLACK_HOLE") {
+			return "Images/blackhole.png";
+		} else if (_type == "ROCKET") {
+			return "Images/rocket.png";
+		}
+		int directionInt = 0;
+		if (_direction == "RIGHT") {
+			directionInt = 1;
+		}
+		return Hazard.getMonsterSprite(directionInt, _species);
+	}
+
+	/**
+	Returns the path of a monster image, by direction (0 for left, 1 for right) and species.
+	*/
+	public static String getMonsterSprite(int direction, int species) {
+		return MONSTER_SPRITES[direction][species];
+	}
+
+	/**
+	Accessor method that returns the hazard's rotation in degrees.
+	*/
+	public double getRotate() {
+		return _rotate;
+	}
+
+	/**
+	Accessor method that returns the direction a monster is facing.
+	*/
+	public String getDirection() {
+		return _direction;
+	}
+
+	/**
+	Accessor method that returns which of the six monster images a monster uses.
+	*/
+	public int getSpecies() {
+		return _species;
+	}
+
+	/**
+	Mutator method that stops a monster from pacing (after it has been hit).
+	*/
+	public void stop() {
+		_moving = false;
+	}
+}
@@ -0,0 +1,90 @@
+package DoodleJump;
+
+/**
+HazardStore holds every live hazard in the World, however many there are. Hazards are kept in one compact array per
+kind (black holes, monsters and rockets), each packed from index 0 with no gaps: a spawn appends to the end of its
+kind's array and a despawn moves the last hazard of that kind into the freed slot. Visiting the hazards of a kind is
+therefore a plain loop over exactly the live ones, and the World treats every kind the same way when it spawns,
+despawns or collides with them. The arrays double if they ever fill.
+*/
+public class HazardStore {
+	public static final int BLACK_HOLE = 0;
+	public static final int MONSTER = 1;
+	public static final int ROCKET = 2;
+	public static final int KIND_COUNT = 3;
+
+	private Hazard[][] _hazards;
+	private int[] _counts;
+
+	/**
+	Constructor that allocates room for the given number of hazards of each kind.
+	*/
+	public HazardStore(int capacity) {
+		_hazards = new Hazard[KIND_COUNT][capacity];
+		_counts = new int[KIND_COUNT];
+	}
+
+	/**
+	Returns the kind (BLACK_HOLE, MONSTER or ROCKET) matching a hazard's type tag.
+	*/
+	public static int kindOf(String type) {
+		if (type == "BLACK_HOLE") {
+			return BLACK_HOLE;
+		} else if (type == "MONSTER") {
+			return MONSTER;
+		}
+		return ROCKET;
+	}
+
+	/**
+	Appends a hazard to the array of its kind.
+	*/
+	public void add(Hazard hazard) {
+		int kind = HazardStore.kindOf(hazard.getType());
+		if (_counts[kind] == _hazards[kind].length) {
+			Hazard[] hazards = new Hazard[_hazards[kind].length * 2];
+			System.arraycopy(_hazards[kind], 0, hazards, 0, _counts[kind]);
+			_hazards[kind] = hazards;
+		}
+		_hazards[kind][_counts[kind]] = hazard;
+		_counts[kind] = _counts[kind] + 1;
+	}
+
+	/**
+	Removes and returns the i-th hazard of the given kind, filling its slot with the last hazard of that kind. A loop
+	removing hazards as it goes should therefore count down.
+	*/
+	public Hazard remove(int kind, int i) {
+		Hazard hazard = _hazards[kind][i];
+		int last = _counts[kind] - 1;
+		_hazards[kind][i] = _hazards[kind][last];
+		_hazards[kind][last] = null;
+		_counts[kind] = last;
+		return hazard;
+	}
+
+	/**
+	Returns the i-th hazard of the given kind.
+	*/
+	public Hazard get(int kind, int i) {
+		return _hazards[kind][i];
+	}
+
+	/**
+	Accessor method that returns the number of live hazards of the given kind.
+	*/
+	public int size(int kind) {
+		return _counts[kind];
+	}
+
+	/**
+	Accessor method that returns the number of live hazards of every kind.
+	*/
+	public int size() {
+		int size = 0;
+		for (int kind = 0; kind < KIND_COUNT; kind++) {
+			size = size + _counts[kind];
+		}
+		return size;
+	}
+}
@@ -0,0 +1,253 @@
+package DoodleJump;
+
+import javafx.scene.layout.Pane;
+import javafx.scene.control.Label;
+import javafx.scene.control.Button;
+import javafx.scene.image.ImageView;
+import javafx.scene.text.*;
+import javafx.scene.paint.Color;
+import javafx.animation.FadeTransition;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.util.Duration;
+
+/**
+Hud is the game's heads-up display: the score (drawn from glyph strips by a ScoreDisplay), the pause and play
+indicators, the quit button and the end of game screen. Every one of its nodes is created once, when the game is built,
+and stays in the scene graph for good - showing or hiding an element only changes its visibility, viewport or style,
+so key presses and game overs add no nodes and the root never has to be reordered to keep an element on top.
+
+The HUD is split over two panes so that the doodle can sit between them. The backdrop, just above the world, holds the
+white end of game background and a viewer for the black hole that swallowed the doodle; the layer, above the doodle,
+holds everything else.
+*/
+public class Hud {
+	private Pane _backdrop;
+	private Pane _layer;
+	private Pane _whiteBackgroundPane;
+	private ImageView _blackHoleViewer;
+	private ScoreDisplay _score;
+	private ImageView _pauseViewer;
+	private ImageView _playViewer;
+	private FadeTransition _fadePause;
+	private FadeTransition _fadePlay;
+	private Pane _gameOverPane;
+	private Button _quitButton;
+
+	/**
+	Constructor that builds every element of the HUD, linking the quit button and the "Another round?" button to the
+	given handlers.
+	*/
+	public Hud(EventHandler<ActionEvent> onQuit, EventHandler<ActionEvent> onReset) {
+		_backdrop = new Pane();
+		_backdrop.setPickOnBounds(false);
+		_layer = new Pane();
+		_layer.setPickOnBounds(false);
+		this.setUpBackdrop();
+		this.setUpScore();
+		this.setUpPauseAndPlay();
+		this.setUpGameOver(onReset);
+		this.setUpQuitButton(onQuit);
+	}
+
+	/**
+	Accessor method that returns the pane of the HUD that belongs below the doodle.
+	*/
+	public Pane getBackdrop() {
+		return _backdrop;
+	}
+
+	/**
+	Accessor method that returns the pane of the HUD that belongs above the doodle.
+	*/
+	public Pane getLayer() {
+		return _layer;
+	}
+
+	/**
+	Shows the given score, right-aligned. Does nothing if it is already shown.
+	*/
+	public void setScore(int score) {
+		_score.setScore(score);
+	}
+
+	/**
+	Sets the look of the score - "WHITE" against space during a rocket launch, "BLACK" against graph paper otherwise.
+	*/
+	public void setScoreStyle(String style) {
+		_score.setStyle(style);
+	}
+
+	/**
+	Shows the pause indicator, which fades out.
+	*/
+	public void showPaused() {
+		_fadePlay.stop();
+		_playViewer.setVisible(false);
+		_pauseViewer.setVisible(true);
+		_fadePause.playFromStart();
+	}
+
+	/**
+	Shows the play indicator, which fades out.
+	*/
+	public void showPlaying() {
+		_fadePause.stop();
+		_pauseViewer.setVisible(false);
+		_playViewer.setVisible(true);
+		_fadePlay.playFromStart();
+	}
+
+	/**
+	Shows the end of game screen: the white background, the final score in bold red and the "GAME OVER!" pane. The
+	black hole that swallowed the doodle, if one did, is shown above the white background at the given height on screen.
+	*/
+	public void showGameOver(int score, Hazard blackHole, double screenY) {
+		_whiteBackgroundPane.setVisible(true);
+		if (blackHole != null) {
+			SpriteAtlas.apply(_blackHoleViewer, blackHole.getSprite());
+			_blackHoleViewer.setFitWidth(blackHole.getWidth());
+			_blackHoleViewer.setRotate(blackHole.getRotate());
+			_blackHoleViewer.setLayoutX(blackHole.getX());
+			_blackHoleViewer.setLayoutY(screenY);
+			_blackHoleViewer.setVisible(true);
+		}
+		_score.setStyle("GAME_OVER");
+		_score.setScore(score);
+		_gameOverPane.setLayoutY(-20);
+		_gameOverPane.setVisible(true);
+	}
+
+	/**
+	Returns every element to its look at the start of a round.
+	*/
+	public void reset() {
+		this.stopFades();
+		_pauseViewer.setVisible(false);
+		_playViewer.setVisible(false);
+		_whiteBackgroundPane.setVisible(false);
+		_blackHoleViewer.setVisible(false);
+		_gameOverPane.setVisible(false);
+		_gameOverPane.setLayoutY(40);
+		_score.setStyle("BLACK");
+		_score.setScore(0);
+	}
+
+	/**
+	Stops the pause and play fades.
+	*/
+	public void stopFades() {
+		_fadePause.stop();
+		_fadePlay.stop();
+	}
+
+//PRIVATE HELPER METHODS
+
+	/**
+	Creates the white background pane that gives the end of game text contrast, and the viewer for the black hole
+	shown above it.
+	*/
+	private void setUpBackdrop() {
+		_whiteBackgroundPane = new Pane();
+		_whiteBackgroundPane.setPrefSize(Constants.SCENE_WIDTH, Constants.SCENE_HEIGHT);
+		_whiteBackgroundPane.setStyle("-fx-background-color: white;");
+		_whiteBackgroundPane.setVisible(false);
+
+		_blackHoleViewer = new ImageView();
+		_blackHoleViewer.setPreserveRatio(true);
+		_blackHoleViewer.setSmooth(true);
+		_blackHoleViewer.setCache(true);
+		_blackHoleViewer.setVisible(false);
+
+		_backdrop.getChildren().addAll(_whiteBackgroundPane, _blackHoleViewer);
+	}
+
+	/**
+	Creates the score display, with its units digit in the top right corner.
+	*/
+	private void setUpScore() {
+		_score = new ScoreDisplay();
+		_score.getNode().setLayoutX(Constants.SCENE_WIDTH - Constants.TEXT_OFFSET);
+		_score.getNode().setLayoutY(5);
+		_layer.getChildren().add(_score.getNode());
+	}
+
+	/**
+	Creates the pause and play indicators in the middle of the screen and the fades that run each time either is shown.
+	*/
+	private void setUpPauseAndPlay() {
+		_pauseViewer = Hud.createIndicator("Images/paused.png");
+		_playViewer = Hud.createIndicator("Images/play.png");
+		_layer.getChildren().addAll(_pauseViewer, _playViewer);
+
+		_fadePause = new FadeTransition(Duration.seconds(0.8), _pauseViewer);
+		_fadePause.setFromValue(1.0);
+		_fadePause.setToValue(0.0);
+
+		_fadePlay = new FadeTransition(Duration.seconds(0.8), _playViewer);
+		_fadePlay.setFromValue(1.0);
+		_fadePlay.setToValue(0.0);
+	}
+
+	/**
+	Returns a hidden viewer of the given icon, centered on screen.
+	*/
+	private static ImageView createIndicator(String path) {
+		ImageView viewer = new ImageView(SpriteCache.get(path));
+		viewer.setSmooth(true);
+		viewer.setCache(true);
+		viewer.setPreserveRatio(true);
+		viewer.setFitWidth(80);
+		viewer.setLayoutX(Constants.SCENE_WIDTH / 2 - 40);
+		viewer.setLayoutY(Constants.SCENE_HEIGHT / 2 - 40);
+		viewer.setVisible(false);
+		return viewer;
+	}
+
+	/**
+	Creates the "GAME OVER!" label and the "Another round?" button, in a pane hidden until the game ends.
+	*/
+	private void setUpGameOver(EventHandler<ActionEvent> onReset) {
+		//RESET BUTTON
+		Button tryAgain = new Button("ANOTHER ROUND?");
+		tryAgain.setFont(Font.font("Courier New", 15));
+		tryAgain.setPrefSize(150, 18);
+		tryAgain.setLayoutX(Constants.SCENE_WIDTH / 2 - 115);
+		tryAgain.setLayoutY(Constants.SCENE_HEIGHT / 2 + 8);
+		tryAgain.setOnAction(onReset);
+
+		//"GAME OVER!" LABEL
+		Label gameOver = new Label();
+		gameOver.setFont(Font.font("Courier New", 35));
+		gameOver.setLayoutX(Constants.SCENE_WIDTH / 2 - 143);
+		gameOver.setLayoutY(Constants.SCENE_HEIGHT / 2 - 40);
+		gameOver.setText("GAME OVER!");
+		gameOver.setTextFill(Color.BLACK);
+
+		_gameOverPane = new Pane();
+		_gameOverPane.setVisible(false);
+		_gameOverPane.setLayoutX(40);
+		_gameOverPane.setLayoutY(40);
+		_gameOverPane.getChildren().addAll(gameOver, tryAgain);
+		_layer.getChildren().add(_gameOverPane);
+	}
+
+	/**
+	Creates the quit button with its red x icon. Added last, it stays above every other element of the HUD.
+	*/
+	private void setUpQuitButton(EventHandler<ActionEvent> onQuit) {
+		ImageView quitViewer = new ImageView(SpriteCache.get("Images/redx.png"));
+		quitViewer.setFitWidth(20);
+		quitViewer.setPreserveRatio(true);
+		quitViewer.setSmooth(true);
+		quitViewer.setCache(true);
+
+		_quitButton = new Button();
+		_quitButton.setPrefSize(20, 20);
+		_quitButton.setLayoutX(10);
+		_quitButton.setLayoutY(10);
+		_quitButton.setGraphic(quitViewer);
+		_quitButton.setOnAction(onQuit);
+		_layer.getChildren().add(_quitButton);
+	}
+}
@@ -0,0 +1,220 @@
+package DoodleJump;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+InputLog is a recording of one game: the seed its World was created with and every change of player input, stamped
+with the World tick it took effect on. A World stepped with the same seed and given the same input on the same ticks
+plays out exactly the same game, so a log is all it takes to replay a run - a frame drop seen once can be replayed and
+profiled as often as needed.
+
+Only changes are stored: the held direction ("LEFT", "RIGHT" or none) and the play status ("PAUSED" or "PLAYING").
+On disk a log is a header (a magic number, the seed and the number of events) followed by one event per change, each
+the number of ticks since the previous event as a variable-length integer (one byte for gaps under 128 ticks) and a
+one byte code, so a game of several minutes takes a few hundred bytes.
+*/
+public class InputLog {
+	private static final int MAGIC = 0x444a4c31; // "DJL1"
+	private static final byte NONE = 0;
+	private static final byte LEFT = 1;
+	private static final byte RIGHT = 2;
+	private static final byte PAUSED = 3;
+	private static final byte PLAYING = 4;
+
+	private long _seed;
+	private long[] _ticks;
+	private byte[] _codes;
+	private int _size;
+	private byte _direction;
+	private int _next;
+
+	/**
+	Constructor for an empty log of a game with the given seed.
+	*/
+	public InputLog(long seed) {
+		_seed = seed;
+		_ticks = new long[64];
+		_codes = new byte[64];
+		_size = 0;
+		_direction = NONE;
+		_next = 0;
+	}
+
+	/**
+	Accessor method that returns the seed of the recorded game.
+	*/
+	public long getSeed() {
+		return _seed;
+	}
+
+	/**
+	Accessor method that returns the number of events in the log.
+	*/
+	public int size() {
+		return _size;
+	}
+
+	/**
+	Records the direction held before the given tick is stepped, if it differs from the last one recorded.
+	*/
+	public void recordDirection(long tick, String direction) {
+		byte code = InputLog.codeOf(direction);
+		if (code != _direction) {
+			_direction = code;
+			this.add(tick, code);
+		}
+	}
+
+	/**
+	Records a change of play status ("PAUSED" or "PLAYING") made before the given tick is stepped.
+	*/
+	public void recordPlayStatus(long tick, String status) {
+		if (status == "PAUSED") {
+			this.add(tick, PAUSED);
+		} else {
+			this.add(tick, PLAYING);
+		}
+	}
+
+	/**
+	Replays every event due before the given tick is stepped (those stamped with it, or with an earlier one that was
+	missed) into the input and the World. Returns whether the direction changed.
+	*/
+	public boolean apply(long tick, WorldInput input, World world) {
+		boolean turned = false;
+		while (_next < _size && _ticks[_next] <= tick) {
+			byte code = _codes[_next];
+			if (code == PAUSED) {
+				world.setPlayStatus("PAUSED");
+			} else if (code == PLAYING) {
+				world.setPlayStatus("PLAYING");
+			} else {
+				input.setDirection(InputLog.directionOf(code));
+				turned = true;
+			}
+			_next = _next + 1;
+		}
+		return turned;
+	}
+
+	/**
+	Starts the replay over from the first event.
+	*/
+	public void rewind() {
+		_next = 0;
+	}
+
+	/**
+	Accessor method that returns whether every event has been replayed.
+	*/
+	public boolean isFinished() {
+		return _next == _size;
+	}
+
+	/**
+	Writes the log to the file at the given path.
+	*/
+	public void save(String path) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+		try {
+			out.writeInt(MAGIC);
+			out.writeLong(_seed);
+			out.writeInt(_size);
+			long previous = 0;
+			for (int i = 0; i < _size; i++) {
+				long delta = _ticks[i] - previous;
+				while (delta >= 0x80) {
+					out.writeByte((int) (delta & 0x7f) | 0x80);
+					delta = delta >>> 7;
+				}
+				out.writeByte((int) delta);
+				out.writeByte(_codes[i]);
+				previous = _ticks[i];
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	Reads a log from the file at the given path, ready to be replayed from its first event.
+	*/
+	public static InputLog load(String path) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path)));
+		try {
+			if (in.readInt() != MAGIC) {
+				throw new IOException(path + " is not an input log");
+			}
+			InputLog log = new InputLog(in.readLong());
+			int size = in.readInt();
+			long tick = 0;
+			for (int i = 0; i < size; i++) {
+				long delta = 0;
+				int shift = 0;
+				int b = in.readUnsignedByte();
+				while ((b & 0x80) != 0) {
+					delta = delta | (long) (b & 0x7f) << shift;
+					shift = shift + 7;
+					b = in.readUnsignedByte();
+				}
+				delta = delta | (long) b << shift;
+				tick = tick + delta;
+				byte code = in.readByte();
+				if (code < NONE || code > PLAYING) {
+					throw new IOException(path + " holds an unknown input code " + code);
+				}
+				log.add(tick, code);
+			}
+			return log;
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	Appends an event, doubling the arrays when they are full.
+	*/
+	private void add(long tick, byte code) {
+		if (_size == _ticks.length) {
+			long[] ticks = new long[_size * 2];
+			byte[] codes = new byte[_size * 2];
+			System.arraycopy(_ticks, 0, ticks, 0, _size);
+			System.arraycopy(_codes, 0, codes, 0, _size);
+			_ticks = ticks;
+			_codes = codes;
+		}
+		_ticks[_size] = tick;
+		_codes[_size] = code;
+		_size = _size + 1;
+	}
+
+	/**
+	Returns the code of a direction string.
+	*/
+	private static byte codeOf(String direction) {
+		if (direction == "LEFT") {
+			return LEFT;
+		} else if (direction == "RIGHT") {
+			return RIGHT;
+		}
+		return NONE;
+	}
+
+	/**
+	Returns the direction string of a code.
+	*/
+	private static String directionOf(byte code) {
+		if (code == LEFT) {
+			return "LEFT";
+		} else if (code == RIGHT) {
+			return "RIGHT";
+		}
+		return null;
+	}
+}
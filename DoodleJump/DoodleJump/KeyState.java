@@ -0,0 +1,136 @@
+package DoodleJump;
+
+/**
+KeyState holds which arrow keys are down as a bitset. The key handlers only flip bits - a press that is already held,
+as the keyboard's auto-repeat sends many times a second, changes nothing - and the game loop polls the state before
+each tick to decide the lateral direction. While both arrows are held the one pressed last wins, and releasing it
+hands the direction back to the other, so rolling from one arrow to the other never drops the doodle's movement.
+
+The time of the first change since the last poll is kept, so each poll that picks up a change records how long the
+change waited to reach a tick. That latency is kept in a LatencyHistogram, along with a count of changes that waited
+longer than one tick plus Constants.INPUT_LATE_MARGIN; it should be at most about one tick (or one pulse, should a
+pulse be a little longer), as the loop polls before every tick it steps.
+*/
+public class KeyState {
+	public static final int LEFT = 1;
+	public static final int RIGHT = 2;
+	//One tick plus a margin, as a display pulse can be a little longer than a tick (16.7 ms at 60 Hz against 16 ms)
+	private static final double LATE_NANOS = (1.0 / Constants.PHYSICS_RATE + Constants.INPUT_LATE_MARGIN) * 1e9;
+
+	private int _held;
+	private int _last;
+	private long _changedAt;
+	private LatencyHistogram _latency;
+	private long _changes;
+	private long _late;
+
+	/**
+	Constructor that starts with no key held.
+	*/
+	public KeyState() {
+		_held = 0;
+		_last = 0;
+		_changedAt = -1;
+		_latency = new LatencyHistogram(Constants.PROFILER_WINDOW);
+		_changes = 0;
+		_late = 0;
+	}
+
+	/**
+	Marks the key (LEFT or RIGHT) as held, at the given time in nanoseconds (System.nanoTime()). Does nothing if it
+	already is.
+	*/
+	public void press(int key, long now) {
+		if ((_held & key) == 0) {
+			_held = _held | key;
+			_last = key;
+			this.changed(now);
+		}
+	}
+
+	/**
+	Marks the key (LEFT or RIGHT) as released, at the given time in nanoseconds. Does nothing if it was not held.
+	*/
+	public void release(int key, long now) {
+		if ((_held & key) != 0) {
+			_held = _held & ~key;
+			this.changed(now);
+		}
+	}
+
+	/**
+	Releases every key, without counting it as a change - for when the keys are disconnected or the game restarts.
+	*/
+	public void clear() {
+		_held = 0;
+		_last = 0;
+		_changedAt = -1;
+	}
+
+	/**
+	Returns the lateral direction the held keys call for ("LEFT", "RIGHT" or null), at the given time in nanoseconds.
+	If a key has changed since the last poll, records how long ago it changed.
+	*/
+	public String poll(long now) {
+		if (_changedAt >= 0) {
+			long latency = now - _changedAt;
+			_latency.record(latency);
+			_changes = _changes + 1;
+			if (latency > LATE_NANOS) {
+				_late = _late + 1;
+			}
+			_changedAt = -1;
+		}
+		int key = _held;
+		if ((_held & _last) != 0) {
+			key = _last;
+		}
+		if ((key & LEFT) != 0) {
+			return "LEFT";
+		} else if ((key & RIGHT) != 0) {
+			return "RIGHT";
+		}
+		return null;
+	}
+
+	/**
+	Accessor method that returns the histogram of the latency, in nanoseconds, from a key change to the tick it reached.
+	*/
+	public LatencyHistogram getLatency() {
+		return _latency;
+	}
+
+	/**
+	Accessor method that returns the number of key changes that have reached a tick.
+	*/
+	public long getChanges() {
+		return _changes;
+	}
+
+	/**
+	Accessor method that returns the number of key changes that waited longer than one tick, plus the margin, to be
+	polled.
+	*/
+	public long getLate() {
+		return _late;
+	}
+
+	/**
+	Returns a one line summary of the input latency.
+	*/
+	public String getReport() {
+		return String.format(
+				"Input latency: %d key changes, p50 %.2f / p99 %.2f / max %.2f ms, %d late (over %.1f ms)",
+				_changes, _latency.getPercentile(0.5) / 1e6, _latency.getPercentile(0.99) / 1e6,
+				_latency.getMax() / 1e6, _late, LATE_NANOS / 1e6);
+	}
+
+	/**
+	Notes the time of a change, unless an earlier one is still waiting to be polled.
+	*/
+	private void changed(long now) {
+		if (_changedAt < 0) {
+			_changedAt = now;
+		}
+	}
+}
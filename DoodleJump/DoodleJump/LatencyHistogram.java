@@ -0,0 +1,124 @@
+package DoodleJump;
+
+/**
+LatencyHistogram keeps the distribution of the most recent durations recorded (a rolling window of a fixed number of
+samples) so that percentiles can be read at any time. Durations are counted in log-linear buckets: exact below 16
+nanoseconds, then eight buckets per power of two, so every bucket is within 12.5% of the values it holds and 488
+buckets cover any duration a long can hold. The window remembers which bucket each of its samples fell in; recording a
+new sample moves the oldest one out of its bucket and the new one into another. Everything is allocated up front, so
+recording costs a few array writes and never allocates - the profiler does not disturb what it measures.
+*/
+public class LatencyHistogram {
+	private static final int EXACT = 16;
+	private static final int SUB_BUCKETS = 8;
+	private static final int BUCKETS = EXACT + (63 - 4) * SUB_BUCKETS;
+
+	private int[] _counts;
+	private short[] _window;
+	private int _next;
+	private int _size;
+
+	/**
+	Constructor that sizes the rolling window to the given number of samples.
+	*/
+	public LatencyHistogram(int window) {
+		_counts = new int[BUCKETS];
+		_window = new short[window];
+		_next = 0;
+		_size = 0;
+	}
+
+	/**
+	Records a duration in nanoseconds, replacing the oldest sample once the window is full.
+	*/
+	public void record(long nanos) {
+		if (_size == _window.length) {
+			_counts[_window[_next]] = _counts[_window[_next]] - 1;
+		} else {
+			_size = _size + 1;
+		}
+		int bucket = LatencyHistogram.bucketOf(nanos);
+		_counts[bucket] = _counts[bucket] + 1;
+		_window[_next] = (short) bucket;
+		_next = (_next + 1) % _window.length;
+	}
+
+	/**
+	Returns the duration, in nanoseconds, that the given fraction (0.5 for the median, 0.99 for the 99th percentile)
+	of the window's samples do not exceed - or rather the upper end of the bucket holding it. Returns 0 if nothing has
+	been recorded.
+	*/
+	public long getPercentile(double fraction) {
+		if (_size == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(fraction * _size);
+		if (rank < 1) {
+			rank = 1;
+		}
+		long seen = 0;
+		for (int bucket = 0; bucket < BUCKETS; bucket++) {
+			seen = seen + _counts[bucket];
+			if (seen >= rank) {
+				return LatencyHistogram.upperBoundOf(bucket);
+			}
+		}
+		return LatencyHistogram.upperBoundOf(BUCKETS - 1);
+	}
+
+	/**
+	Returns the largest duration in the window, to the precision of its bucket. Returns 0 if nothing has been recorded.
+	*/
+	public long getMax() {
+		for (int bucket = BUCKETS - 1; bucket >= 0; bucket--) {
+			if (_counts[bucket] > 0) {
+				return LatencyHistogram.upperBoundOf(bucket);
+			}
+		}
+		return 0;
+	}
+
+	/**
+	Accessor method that returns the number of samples in the window.
+	*/
+	public int getCount() {
+		return _size;
+	}
+
+	/**
+	Empties the window.
+	*/
+	public void reset() {
+		for (int bucket = 0; bucket < BUCKETS; bucket++) {
+			_counts[bucket] = 0;
+		}
+		_next = 0;
+		_size = 0;
+	}
+
+	/**
+	Returns the bucket a duration falls in. Durations of 16 or more are placed by their highest set bit and the three
+	bits below it.
+	*/
+	private static int bucketOf(long nanos) {
+		if (nanos < EXACT) {
+			return (int) Math.max(nanos, 0);
+		}
+		int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+		int shift = magnitude - 3;
+		return EXACT + (magnitude - 4) * SUB_BUCKETS + (int) ((nanos >> shift) & (SUB_BUCKETS - 1));
+	}
+
+	/**
+	Returns the largest duration that falls in the given bucket.
+	*/
+	private static long upperBoundOf(int bucket) {
+		if (bucket < EXACT) {
+			return bucket;
+		}
+		int magnitude = 4 + (bucket - EXACT) / SUB_BUCKETS;
+		int shift = magnitude - 3;
+		long lower = (long) (SUB_BUCKETS + (bucket - EXACT) % SUB_BUCKETS) << shift;
+		return lower + (1L << shift) - 1;
+	}
+}
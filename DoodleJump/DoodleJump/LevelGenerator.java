@@ -0,0 +1,64 @@
+package DoodleJump;
+
+import java.util.Random;
+
+/**
+LevelGenerator lays out the level's platforms. The first platform sits just above the doodle's starting point; every
+later one is placed semi-randomly in relation to its predecessor, 75 to 300 pixels higher and within 200 pixels either
+side, so that it is within reach of the doodle on the platform below. Since each platform depends only on the one
+before it and on the generator's own random number generator, the whole layout is fixed by the seed and can be
+generated any distance ahead of the doodle, on any thread - as long as only one thread uses a generator at a time.
+*/
+public class LevelGenerator {
+	private Random _random;
+	private boolean _started;
+	private double _lastX;
+	private double _lastY;
+
+	/**
+	Constructor for a layout fixed by the given seed.
+	*/
+	public LevelGenerator(long seed) {
+		_random = new Random(seed);
+		_started = false;
+	}
+
+	/**
+	Empties the chunk and fills it with the next platforms of the layout.
+	*/
+	public void fill(PlatformChunk chunk) {
+		chunk.clear();
+		while (!chunk.isFull()) {
+			this.next(chunk);
+		}
+	}
+
+	/**
+	Appends the next platform of the layout to the chunk, remembering it as the reference for the one after.
+	*/
+	private void next(PlatformChunk chunk) {
+		if (!_started) {
+			_started = true;
+			_lastX = Constants.SCENE_WIDTH / 2;
+			_lastY = Constants.SCENE_HEIGHT / 2 - 100;
+			chunk.add(_lastX - Constants.PLATFORM_WIDTH / 2, _lastY, PlatformType.sample(_random));
+			return;
+		}
+		double maxDisplacementY = _lastY - 300;
+		double minDisplacementY = _lastY - 75;
+		double maxDisplacementX = _lastX + 200;
+		double minDisplacementX = _lastX - 200;
+		double randomX = minDisplacementX + (int) ((maxDisplacementX - minDisplacementX + 1) * _random.nextDouble());
+		double randomY = minDisplacementY + (int) ((maxDisplacementY - minDisplacementY + 1) * _random.nextDouble());
+		double randomXInBounds = (int) (_random.nextDouble() * 100);
+		if (randomX <= 30) {
+			randomX = 30 + randomXInBounds;
+		}
+		if (randomX >= Constants.SCENE_WIDTH - Constants.PLATFORM_WIDTH - 15) {
+			randomX = Constants.SCENE_WIDTH - Constants.PLATFORM_WIDTH - 30 - randomXInBounds;
+		}
+		_lastX = randomX;
+		_lastY = randomY;
+		chunk.add(randomX - Constants.PLATFORM_WIDTH / 2, randomY, PlatformType.sample(_random));
+	}
+}
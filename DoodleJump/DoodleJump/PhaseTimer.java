@@ -0,0 +1,157 @@
+package DoodleJump;
+
+/**
+PhaseTimer records how long each phase of a World tick takes. The World runs its phases in a fixed order - input,
+lateral movement, monster motion, vertical physics, collision and scroll - and marks the end of each one here, so the
+time of every phase in the latest tick, its average over all ticks and its recent percentiles (from a LatencyHistogram
+per phase) are always available. Platform generation, which happens within the scroll phase, is also timed on its own as
+a section. Timing uses System.nanoTime() and plain arrays, so recording allocates nothing; it can be switched off where
+even the clock reads matter, such as a headless simulation run far faster than real time.
+*/
+public class PhaseTimer {
+	public static final int INPUT = 0;
+	public static final int LATERAL = 1;
+	public static final int MONSTERS = 2;
+	public static final int PHYSICS = 3;
+	public static final int COLLISION = 4;
+	public static final int SCROLL = 5;
+	public static final int GENERATE = 6;
+	private static final String[] PHASE_NAMES = { "input", "lateral", "monsters", "physics", "collision",
+			"scroll", "generate" };
+
+	private long[] _lastNanos;
+	private long[] _totalNanos;
+	private LatencyHistogram[] _histograms;
+	private long _ticks;
+	private long _markTime;
+	private boolean _enabled;
+
+	/**
+	Constructor that starts every phase's timings at zero.
+	*/
+	public PhaseTimer() {
+		_lastNanos = new long[PHASE_NAMES.length];
+		_totalNanos = new long[PHASE_NAMES.length];
+		_histograms = new LatencyHistogram[PHASE_NAMES.length];
+		for (int i = 0; i < PHASE_NAMES.length; i++) {
+			_histograms[i] = new LatencyHistogram(Constants.PROFILER_WINDOW);
+		}
+		_ticks = 0;
+		_enabled = true;
+	}
+
+	/**
+	Marks the start of a tick.
+	*/
+	public void beginTick() {
+		if (!_enabled) {
+			return;
+		}
+		_ticks = _ticks + 1;
+		for (int i = 0; i < _lastNanos.length; i++) {
+			_lastNanos[i] = 0;
+		}
+		_markTime = System.nanoTime();
+	}
+
+	/**
+	Marks the end of the given phase, attributing to it all the time since the previous mark.
+	*/
+	public void endPhase(int phase) {
+		if (!_enabled) {
+			return;
+		}
+		long now = System.nanoTime();
+		this.record(phase, now - _markTime);
+		_markTime = now;
+	}
+
+	/**
+	Marks the start of a section timed on its own within a phase, returning the time to pass to endSection (or 0 if
+	timing is off).
+	*/
+	public long beginSection() {
+		if (!_enabled) {
+			return 0;
+		}
+		return System.nanoTime();
+	}
+
+	/**
+	Marks the end of a section begun with beginSection, attributing to the given phase the time since it began.
+	*/
+	public void endSection(int phase, long start) {
+		if (!_enabled) {
+			return;
+		}
+		this.record(phase, System.nanoTime() - start);
+	}
+
+	/**
+	Records a phase's time in the latest tick, its total and its histogram.
+	*/
+	private void record(int phase, long nanos) {
+		_lastNanos[phase] = nanos;
+		_totalNanos[phase] = _totalNanos[phase] + nanos;
+		_histograms[phase].record(nanos);
+	}
+
+	/**
+	Mutator method that turns timing on or off.
+	*/
+	public void setEnabled(boolean enabled) {
+		_enabled = enabled;
+	}
+
+	/**
+	Accessor method that returns whether timing is on.
+	*/
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	/**
+	Accessor method that returns the number of phases.
+	*/
+	public int getPhaseCount() {
+		return PHASE_NAMES.length;
+	}
+
+	/**
+	Accessor method that returns the given phase's name.
+	*/
+	public String getPhaseName(int phase) {
+		return PHASE_NAMES[phase];
+	}
+
+	/**
+	Accessor method that returns the time, in nanoseconds, the given phase took in the latest tick.
+	*/
+	public long getLastNanos(int phase) {
+		return _lastNanos[phase];
+	}
+
+	/**
+	Accessor method that returns the average time, in nanoseconds, the given phase has taken per tick.
+	*/
+	public double getAverageNanos(int phase) {
+		if (_ticks == 0) {
+			return 0;
+		}
+		return (double) _totalNanos[phase] / _ticks;
+	}
+
+	/**
+	Accessor method that returns the histogram of the given phase's recent times.
+	*/
+	public LatencyHistogram getHistogram(int phase) {
+		return _histograms[phase];
+	}
+
+	/**
+	Accessor method that returns the number of ticks timed.
+	*/
+	public long getTicks() {
+		return _ticks;
+	}
+}
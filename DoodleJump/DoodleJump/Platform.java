@@ -2,95 +2,57 @@ package DoodleJump;
 
 import javafx.scene.layout.*;
 import javafx.scene.image.ImageView;
-import javafx.scene.image.Image;
 
 /**
 Like the doodle clas, this platform class models a game element with an ImageView, and shares essentially
-all aspects except for the images used and the fact that they are randomly selected.
+all aspects except for the images used. The platform's position and (randomly selected) type now live in the
+World's PlatformStore; this class only renders a platform with the position and type it is given, and PlatformViews
+keeps one for each live platform id.
 */
 public class Platform {
 	private Pane _root;
-	private double _xLoc;
-	private double _yLoc;
+	private PlatformType _type;
 	private ImageView _platformIconViewer;
-	private Image _platformType;
-	private String _platformTypeText;
 
 	/**
-	Constructor that establishes an association with the root pane and the position coordinates passed to each new
-	platform in DoodleGame's generatePlatforms method. Then, calls private helper method used to select and
-	grapically render the platform.
+	Constructor that establishes an association with the root pane. Then, calls private helper method used to
+	grapically render a platform of the given type at the given position.
 	*/
-	public Platform(Pane rootPane, double x, double y) {
+	public Platform(Pane rootPane, double x, double y, PlatformType type) {
 		_root = rootPane;
-		_xLoc = x;
-		_yLoc = y;
-		this.setUpPlatforms();
+		this.setUpPlatforms(x, y, type);
 	}
 
 	/**
-	Loads a series of images that correspond to different platform types. Then, using a weighted switch statement,
-	selects an image to be added to the platform ImageView. The platform type text is used as an identifier in the
-	DoodleGame class to determine how the doodle should interact with the platform in question if the two intersect.
+	Generates the platform ImageView, renders the platform through it and adds it to the root. The ImageView is created
+	only once - a pooled platform is later given another position and type with reset().
 	*/
-	private void setUpPlatforms() {
-		int platformInt = (int) (Math.random() * 20);
-		_platformType = null;
-		Image normalPlatform = new Image("Images/normalplatform.png");
-		Image springPlatform = new Image("Images/springplatform.png");
-		Image trampPlatform = new Image("Images/trampplatform.png");
-		Image shakyPlatform = new Image("Images/shakyplatform.png");
-		Image crackedPlatform = new Image("Images/crackedplatform.png");
-		switch (platformInt) {
-		case 0:
-		case 1:
-		case 2:
-		case 3:
-		case 4:
-		case 5:
-		case 6:
-		case 7:
-		case 8:
-		case 9:
-		case 19:
-			_platformType = normalPlatform;
-			_platformTypeText = "NORMAL";
-			break;
-		case 10:
-		case 11:
-			_platformType = springPlatform;
-			_platformTypeText = "SPRING";
-			break;
-		case 12:
-		case 13:
-		case 14:
-			_platformType = trampPlatform;
-			_platformTypeText = "TRAMP";
-			break;
-		case 15:
-		case 16:
-		case 17:
-			_platformType = shakyPlatform;
-			_platformTypeText = "SHAKY";
-			break;
-		case 18:
-			_platformType = crackedPlatform;
-			_platformTypeText = "CRACKED";
-			break;
-		default:
-			_platformType = normalPlatform;
-			_platformTypeText = "NORMAL";
-			break;
-		}
-		_platformIconViewer = new ImageView(_platformType);
-		_platformIconViewer.setFitWidth(Constants.PLATFORM_WIDTH + 15);
+	private void setUpPlatforms(double x, double y, PlatformType type) {
+		_platformIconViewer = new ImageView();
+		_platformIconViewer.setFitWidth(Constants.PLATFORM_FIT_WIDTH);
 		_platformIconViewer.setPreserveRatio(true);
 		_platformIconViewer.setCache(true);
-		_platformIconViewer.setLayoutX(_xLoc - Constants.PLATFORM_WIDTH / 2);
-		_platformIconViewer.setLayoutY(_yLoc);
+		this.reset(x, y, type);
 		_root.getChildren().add(_platformIconViewer);
 	}
 
+	/**
+	Shows the type's region of the SpriteAtlas, moves the ImageView to the given position and makes it visible.
+	*/
+	public void reset(double x, double y, PlatformType type) {
+		_type = type;
+		SpriteAtlas.apply(_platformIconViewer, type.getSprite());
+		this.setPosition(x, y);
+		_platformIconViewer.setVisible(true);
+	}
+
+	/**
+	Hides the platform while it waits in the PlatformPool to be reused.
+	*/
+	public void hide() {
+		_platformIconViewer.setVisible(false);
+	}
+
 	/**
 	Accessor method that returns the platform's "core" node, its ImageView.
 	*/
@@ -123,8 +85,8 @@ public class Platform {
 	/**
 	Accessor method that allows the DoodleGame class to identify the platform type and react accordingly
 	*/
-	public String getType() {
-		return _platformTypeText;
+	public PlatformType getType() {
+		return _type;
 	}
 
 }
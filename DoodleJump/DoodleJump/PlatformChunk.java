@@ -0,0 +1,76 @@
+package DoodleJump;
+
+/**
+PlatformChunk is a batch of generated platform positions and types, in the order they are to be added, kept in plain
+arrays. Chunks are filled by the LevelGenerator, possibly on another thread, and handed to the World whole through a
+ChunkFeed; once the World has used every platform in one, the chunk goes back to be filled again, so no chunk is ever
+allocated after the game starts.
+*/
+public class PlatformChunk {
+	private double[] _x;
+	private double[] _y;
+	private PlatformType[] _types;
+	private int _size;
+
+	/**
+	Constructor for an empty chunk that holds up to the given number of platforms.
+	*/
+	public PlatformChunk(int capacity) {
+		_x = new double[capacity];
+		_y = new double[capacity];
+		_types = new PlatformType[capacity];
+		_size = 0;
+	}
+
+	/**
+	Empties the chunk, ready to be filled again.
+	*/
+	public void clear() {
+		_size = 0;
+	}
+
+	/**
+	Appends a platform with its upper left corner at (x, y).
+	*/
+	public void add(double x, double y, PlatformType type) {
+		_x[_size] = x;
+		_y[_size] = y;
+		_types[_size] = type;
+		_size = _size + 1;
+	}
+
+	/**
+	Accessor method that returns whether the chunk is full.
+	*/
+	public boolean isFull() {
+		return _size == _x.length;
+	}
+
+	/**
+	Accessor method that returns the number of platforms in the chunk.
+	*/
+	public int size() {
+		return _size;
+	}
+
+	/**
+	Accessor method that returns the x location of the i-th platform.
+	*/
+	public double getX(int i) {
+		return _x[i];
+	}
+
+	/**
+	Accessor method that returns the y location of the i-th platform.
+	*/
+	public double getY(int i) {
+		return _y[i];
+	}
+
+	/**
+	Accessor method that returns the type of the i-th platform.
+	*/
+	public PlatformType getType(int i) {
+		return _types[i];
+	}
+}
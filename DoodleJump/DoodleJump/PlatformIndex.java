@@ -0,0 +1,61 @@
+package DoodleJump;
+
+/**
+PlatformIndex answers "which platforms lie within this vertical band?" without visiting every platform. It relies on
+an invariant of the World's PlatformStore: each new platform is generated between 75 and 300 pixels above its
+predecessor and platforms never move once placed, so the store is always sorted by descending y. A binary
+search therefore finds the first platform inside the band, and the band's members follow it contiguously - a query
+costs O(log n) plus the (one or two) platforms actually returned, however many platforms are live.
+*/
+public class PlatformIndex {
+	private PlatformStore _platforms;
+	private int _queryStart;
+	private int _queryEnd;
+
+	/**
+	Constructor that establishes an association with the World's (descending y sorted) platform store.
+	*/
+	public PlatformIndex(PlatformStore platforms) {
+		_platforms = platforms;
+		_queryStart = 0;
+		_queryEnd = 0;
+	}
+
+	/**
+	Finds the platforms whose top edge lies between minY and maxY (inclusive). The result is the index range
+	[getQueryStart(), getQueryEnd()) of the platform store, kept in fields so that no allocation is needed.
+	*/
+	public void query(double minY, double maxY) {
+		int low = 0;
+		int high = _platforms.size();
+		//First index whose y is no greater than maxY
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (_platforms.getY(middle) > maxY) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		_queryStart = low;
+		int end = low;
+		while (end < _platforms.size() && _platforms.getY(end) >= minY) {
+			end = end + 1;
+		}
+		_queryEnd = end;
+	}
+
+	/**
+	Accessor method that returns the index of the first platform found by the last query.
+	*/
+	public int getQueryStart() {
+		return _queryStart;
+	}
+
+	/**
+	Accessor method that returns one past the index of the last platform found by the last query.
+	*/
+	public int getQueryEnd() {
+		return _queryEnd;
+	}
+}
@@ -0,0 +1,84 @@
+package DoodleJump;
+
+import java.util.ArrayList;
+import javafx.scene.layout.*;
+
+/**
+PlatformPool recycles platform ImageViews. When a platform scrolls off the bottom of the screen (or a shaky platform
+vanishes) its Platform is hidden and kept here rather than removed, and the next platform generated at the top takes
+it back with a new type and position. Nodes stay in their pane the whole time, so once the pool has warmed up the node
+count and heap stay constant however long a run lasts. The pool is bounded: a released platform beyond
+Constants.PLATFORM_POOL_SIZE is removed from its pane instead of being kept.
+*/
+public class PlatformPool {
+	private Pane _pane;
+	private ArrayList<Platform> _free;
+	private int _created;
+	private int _acquired;
+	private int _reused;
+
+	/**
+	Constructor that establishes an association with the pane (the DoodleGame's world layer) the pooled ImageViews
+	live in.
+	*/
+	public PlatformPool(Pane pane) {
+		_pane = pane;
+		_free = new ArrayList<Platform>();
+		_created = 0;
+		_acquired = 0;
+		_reused = 0;
+	}
+
+	/**
+	Returns a visible Platform of the given type at the given position, reusing a pooled one if any is free, or
+	creating one (which adds itself to the pane) otherwise.
+	*/
+	public Platform acquire(double x, double y, PlatformType type) {
+		_acquired = _acquired + 1;
+		if (_free.isEmpty()) {
+			_created = _created + 1;
+			return new Platform(_pane, x, y, type);
+		}
+		_reused = _reused + 1;
+		Platform platform = _free.remove(_free.size() - 1);
+		platform.reset(x, y, type);
+		return platform;
+	}
+
+	/**
+	Hides the Platform passed in and keeps it for reuse, or removes it from the pane if the pool is already full.
+	*/
+	public void release(Platform platform) {
+		if (_free.size() >= Constants.PLATFORM_POOL_SIZE) {
+			_pane.getChildren().remove(platform.getPlatformViewer());
+			_created = _created - 1;
+			return;
+		}
+		platform.hide();
+		_free.add(platform);
+	}
+
+	/**
+	Accessor method that returns the number of Platforms the pool currently owns, in use or free.
+	*/
+	public int getSize() {
+		return _created;
+	}
+
+	/**
+	Accessor method that returns the number of free Platforms waiting to be reused.
+	*/
+	public int getFree() {
+		return _free.size();
+	}
+
+	/**
+	Accessor method that returns the fraction of acquisitions served by a reused Platform.
+	*/
+	public double getReuseRate() {
+		if (_acquired == 0) {
+			return 0;
+		}
+		return (double) _reused / _acquired;
+	}
+}
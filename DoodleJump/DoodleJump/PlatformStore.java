@@ -0,0 +1,197 @@
+package DoodleJump;
+
+/**
+PlatformStore holds the state of the World's live platforms as parallel primitive arrays - x, y, width and height,
+a byte type code (the PlatformType's ordinal) and an alive flag that a shaky platform loses when it vanishes - rather
+than as one object per platform. A pass over the platforms, such as the collision check or the eviction of
+platforms below the screen, therefore reads a few contiguous arrays and follows no references.
+
+The arrays form a ring, built for the way platforms live and die: each is added at the top of the screen and evicted
+from the bottom, in the same order, so both are O(1) and nothing is shifted. Index i counts up from the bottom
+(oldest, largest y) platform to the top (newest). Every platform is also given an id when it is added - one more than
+the previous platform's - which stays the same for as long as it lives, so a view can keep its own objects by id (see
+PlatformViews) while the store holds none. A platform's slot in the arrays is its id masked by the capacity, which is
+a power of two; the arrays double if they ever fill, which only happens while a game is warming up.
+*/
+public class PlatformStore {
+	private static final PlatformType[] TYPES = PlatformType.values();
+	private static final double[] HEIGHTS = new double[TYPES.length];
+
+	static {
+		for (int i = 0; i < TYPES.length; i++) {
+			HEIGHTS[i] = TYPES[i].getHeight();
+		}
+	}
+
+	private double[] _x;
+	private double[] _y;
+	private double[] _width;
+	private byte[] _type;
+	private boolean[] _alive;
+	private int _mask;
+	private int _bottomId;
+	private int _size;
+
+	/**
+	Constructor that allocates room for at least the given number of platforms.
+	*/
+	public PlatformStore(int capacity) {
+		int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+		this.allocate(size);
+		_bottomId = 0;
+		_size = 0;
+	}
+
+	/**
+	Appends a platform above all the others, alive and as wide as every platform is drawn. Returns its id.
+	*/
+	public int addTop(double x, double y, PlatformType type) {
+		if (_size == _x.length) {
+			this.grow();
+		}
+		int id = _bottomId + _size;
+		int slot = id & _mask;
+		_x[slot] = x;
+		_y[slot] = y;
+		_width[slot] = Constants.PLATFORM_FIT_WIDTH;
+		_type[slot] = (byte) type.ordinal();
+		_alive[slot] = true;
+		_size = _size + 1;
+		return id;
+	}
+
+	/**
+	Removes the lowest (oldest) platform. Returns its id.
+	*/
+	public int removeBottom() {
+		int id = _bottomId;
+		_bottomId = _bottomId + 1;
+		_size = _size - 1;
+		return id;
+	}
+
+	/**
+	Accessor method that returns the number of platforms held.
+	*/
+	public int size() {
+		return _size;
+	}
+
+	/**
+	Returns the id of the i-th platform counting up from the bottom.
+	*/
+	public int getId(int i) {
+		return _bottomId + i;
+	}
+
+	/**
+	Returns the x location of the i-th platform's upper left corner.
+	*/
+	public double getX(int i) {
+		return _x[(_bottomId + i) & _mask];
+	}
+
+	/**
+	Returns the y location of the i-th platform's upper left corner.
+	*/
+	public double getY(int i) {
+		return _y[(_bottomId + i) & _mask];
+	}
+
+	/**
+	Returns the width of the i-th platform.
+	*/
+	public double getWidth(int i) {
+		return _width[(_bottomId + i) & _mask];
+	}
+
+	/**
+	Returns the height of the i-th platform, which depends on its type.
+	*/
+	public double getHeight(int i) {
+		return HEIGHTS[_type[(_bottomId + i) & _mask]];
+	}
+
+	/**
+	Returns the type of the i-th platform.
+	*/
+	public PlatformType getType(int i) {
+		return TYPES[_type[(_bottomId + i) & _mask]];
+	}
+
+	/**
+	Returns whether the i-th platform can still be bounced on.
+	*/
+	public boolean isAlive(int i) {
+		return _alive[(_bottomId + i) & _mask];
+	}
+
+	/**
+	Makes the i-th platform vanish, so it can no longer be bounced on (used for shaky platforms at impact).
+	*/
+	public void kill(int i) {
+		_alive[(_bottomId + i) & _mask] = false;
+	}
+
+	/**
+	Returns the index of the first platform in [start, end) that is alive and intersects the given rectangle, or -1 if
+	none does. This is the collision check's inner loop, run straight over the arrays.
+	*/
+	public int findIntersecting(int start, int end, double x, double y, double width, double height) {
+		for (int i = start; i < end; i++) {
+			int slot = (_bottomId + i) & _mask;
+			if (_alive[slot] && Collision.intersects(x, y, width, height, _x[slot], _y[slot], _width[slot],
+					HEIGHTS[_type[slot]])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	Returns the number of platforms at the bottom of the ring whose top edge lies below the given y - those that have
+	scrolled off the bottom of the screen, and can be evicted with as many calls to removeBottom().
+	*/
+	public int countBelow(double y) {
+		int count = 0;
+		while (count < _size && _y[(_bottomId + count) & _mask] > y) {
+			count = count + 1;
+		}
+		return count;
+	}
+
+	/**
+	Allocates the arrays with the given (power of two) capacity.
+	*/
+	private void allocate(int capacity) {
+		_x = new double[capacity];
+		_y = new double[capacity];
+		_width = new double[capacity];
+		_type = new byte[capacity];
+		_alive = new boolean[capacity];
+		_mask = capacity - 1;
+	}
+
+	/**
+	Doubles the arrays, moving each platform to the slot its id masks to in the larger ring.
+	*/
+	private void grow() {
+		double[] x = _x;
+		double[] y = _y;
+		double[] width = _width;
+		byte[] type = _type;
+		boolean[] alive = _alive;
+		int mask = _mask;
+		this.allocate(x.length * 2);
+		for (int i = 0; i < _size; i++) {
+			int id = _bottomId + i;
+			int from = id & mask;
+			int to = id & _mask;
+			_x[to] = x[from];
+			_y[to] = y[from];
+			_width[to] = width[from];
+			_type[to] = type[from];
+			_alive[to] = alive[from];
+		}
+	}
+}
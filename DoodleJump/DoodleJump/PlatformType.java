@@ -0,0 +1,167 @@
+package DoodleJump;
+
+import java.util.Random;
+
+/**
+PlatformType is the registry of platform kinds. Each kind carries everything the game needs to know about it: the
+factor applied to the rebound velocity when the doodle bounces on it, its sprite and the aspect ratio of that image,
+what it does on contact (shaky platforms vanish, trampolines spin the doodle) and its weight when new platforms are
+generated. Bounces and rendering read these fields directly instead of comparing type names, so adding a kind means
+adding one constant here. Types are drawn through an alias table (see sample()), which picks one in constant time
+however many kinds there are.
+*/
+public enum PlatformType {
+	NORMAL(1, "Images/normalplatform.png", 25, 69, false, false, 11),
+	SPRING(Constants.SPRING_VELOCITY_FACTOR, "Images/springplatform.png", 33, 69, false, false, 2),
+	TRAMP(Constants.TRAMP_VELOCITY_FACTOR, "Images/trampplatform.png", 38, 68, false, true, 3),
+	SHAKY(1, "Images/shakyplatform.png", 22, 67, true, false, 3),
+	CRACKED(Constants.CRACKED_VELOCITY_FACTOR, "Images/crackedplatform.png", 28, 73, false, false, 1);
+
+	private static final PlatformType[] TYPES = PlatformType.values();
+	private static final double[] ACCEPT = new double[TYPES.length];
+	private static final int[] ALIAS = new int[TYPES.length];
+	private static final double MAX_HEIGHT;
+
+	static {
+		PlatformType.buildAliasTable();
+		double maxHeight = 0;
+		for (PlatformType type : TYPES) {
+			maxHeight = Math.max(maxHeight, type.getHeight());
+		}
+		MAX_HEIGHT = maxHeight;
+	}
+
+	private double _reboundFactor;
+	private String _sprite;
+	private double _height;
+	private boolean _vanishes;
+	private boolean _spins;
+	private int _weight;
+
+	/**
+	Constructor that records the kind's rebound factor, sprite path, image size (the height and width in pixels, whose
+	ratio sets the platform's height), contact behavior and spawn weight.
+	*/
+	PlatformType(double reboundFactor, String sprite, double imageHeight, double imageWidth, boolean vanishes,
+			boolean spins, int weight) {
+		_reboundFactor = reboundFactor;
+		_sprite = sprite;
+		_height = Constants.PLATFORM_FIT_WIDTH * imageHeight / imageWidth;
+		_vanishes = vanishes;
+		_spins = spins;
+		_weight = weight;
+	}
+
+	/**
+	Builds the alias table (Vose's method). Every column i holds probability 1 / n; ACCEPT[i] of it belongs to type i
+	and the rest to type ALIAS[i]. Columns whose type is under-weighted are topped up from over-weighted types until
+	every column is full.
+	*/
+	private static void buildAliasTable() {
+		int n = TYPES.length;
+		int totalWeight = 0;
+		for (PlatformType type : TYPES) {
+			totalWeight = totalWeight + type._weight;
+		}
+		double[] scaled = new double[n];
+		int[] small = new int[n];
+		int[] large = new int[n];
+		int smallCount = 0;
+		int largeCount = 0;
+		for (int i = 0; i < n; i++) {
+			scaled[i] = (double) TYPES[i]._weight * n / totalWeight;
+			if (scaled[i] < 1) {
+				small[smallCount] = i;
+				smallCount = smallCount + 1;
+			} else {
+				large[largeCount] = i;
+				largeCount = largeCount + 1;
+			}
+		}
+		while (smallCount > 0 && largeCount > 0) {
+			smallCount = smallCount - 1;
+			int less = small[smallCount];
+			int more = large[largeCount - 1];
+			ACCEPT[less] = scaled[less];
+			ALIAS[less] = more;
+			scaled[more] = scaled[more] + scaled[less] - 1;
+			if (scaled[more] < 1) {
+				largeCount = largeCount - 1;
+				small[smallCount] = more;
+				smallCount = smallCount + 1;
+			}
+		}
+		//Whatever remains is full up to rounding error
+		for (int i = 0; i < largeCount; i++) {
+			ACCEPT[large[i]] = 1;
+		}
+		for (int i = 0; i < smallCount; i++) {
+			ACCEPT[small[i]] = 1;
+		}
+	}
+
+	/**
+	Selects a platform type according to the spawn weights, in constant time: one random number (drawn from the
+	generator passed in) picks a column of the alias table and its fractional part decides between the column's own
+	type and its alias.
+	*/
+	public static PlatformType sample(Random random) {
+		double column = random.nextDouble() * TYPES.length;
+		int i = (int) column;
+		if (column - i < ACCEPT[i]) {
+			return TYPES[i];
+		}
+		return TYPES[ALIAS[i]];
+	}
+
+	/**
+	Returns the height of the tallest platform type, used to widen collision queries so that no platform overlapping
+	the doodle is missed.
+	*/
+	public static double getMaxHeight() {
+		return MAX_HEIGHT;
+	}
+
+	/**
+	Accessor method that returns the factor applied to the rebound velocity after a bounce on this type.
+	*/
+	public double getReboundFactor() {
+		return _reboundFactor;
+	}
+
+	/**
+	Accessor method that returns the path of this type's image.
+	*/
+	public String getSprite() {
+		return _sprite;
+	}
+
+	/**
+	Accessor method that returns the height of a platform of this type. The ImageView preserves the image's aspect
+	ratio, so the height depends on the type.
+	*/
+	public double getHeight() {
+		return _height;
+	}
+
+	/**
+	Accessor method that returns whether a platform of this type vanishes once it is bounced on.
+	*/
+	public boolean vanishesOnContact() {
+		return _vanishes;
+	}
+
+	/**
+	Accessor method that returns whether a bounce on this type spins the doodle.
+	*/
+	public boolean spinsDoodle() {
+		return _spins;
+	}
+
+	/**
+	Accessor method that returns this type's weight when new platforms are generated.
+	*/
+	public int getWeight() {
+		return _weight;
+	}
+}
@@ -0,0 +1,102 @@
+package DoodleJump;
+
+/**
+PlatformViews is the render side's mapping from the ids the World's PlatformStore gives its platforms to the pooled
+Platform ImageViews that show them. The World reports platforms by id and holds no objects for them, so this is the
+only place a platform is an object at all, and only while it is on screen in node rendering.
+
+Ids are handed out in increasing order and platforms leave in the same order (a vanished platform merely leaves
+early), so the live ids always fall within a short run. The Platforms are kept in an array indexed by id masked by its
+length, a power of two, much like the store itself: a lookup is an array read, with no hashing or boxing, and the array
+doubles if the run of live ids ever outgrows it.
+*/
+public class PlatformViews {
+	private PlatformPool _pool;
+	private Platform[] _platforms;
+	private int _mask;
+	private int _firstId;
+	private int _endId;
+	private int _size;
+
+	/**
+	Constructor that takes the Platforms it shows from the given pool.
+	*/
+	public PlatformViews(PlatformPool pool) {
+		_pool = pool;
+		_platforms = new Platform[16];
+		_mask = _platforms.length - 1;
+		_firstId = 0;
+		_endId = 0;
+		_size = 0;
+	}
+
+	/**
+	Shows the platform with the given id, taking a Platform from the pool. Ids must be shown in increasing order.
+	*/
+	public void show(int id, double x, double y, PlatformType type) {
+		if (_size == 0) {
+			_firstId = id;
+			_endId = id;
+		}
+		while (id - _firstId >= _platforms.length) {
+			this.grow();
+		}
+		_platforms[id & _mask] = _pool.acquire(x, y, type);
+		_endId = id + 1;
+		_size = _size + 1;
+	}
+
+	/**
+	Stops showing the platform with the given id, returning its Platform to the pool. Does nothing if it is not shown.
+	*/
+	public void hide(int id) {
+		if (_size == 0 || id - _firstId < 0 || id - _endId >= 0) {
+			return;
+		}
+		Platform platform = _platforms[id & _mask];
+		if (platform == null) {
+			return;
+		}
+		_platforms[id & _mask] = null;
+		_pool.release(platform);
+		_size = _size - 1;
+		while (_firstId != _endId && _platforms[_firstId & _mask] == null) {
+			_firstId = _firstId + 1;
+		}
+	}
+
+	/**
+	Stops showing every platform, returning all of their Platforms to the pool.
+	*/
+	public void hideAll() {
+		for (int id = _firstId; id != _endId; id++) {
+			Platform platform = _platforms[id & _mask];
+			if (platform != null) {
+				_platforms[id & _mask] = null;
+				_pool.release(platform);
+			}
+		}
+		_firstId = _endId;
+		_size = 0;
+	}
+
+	/**
+	Accessor method that returns the number of platforms shown.
+	*/
+	public int size() {
+		return _size;
+	}
+
+	/**
+	Doubles the array, moving each Platform to the slot its id masks to in the larger array.
+	*/
+	private void grow() {
+		Platform[] platforms = new Platform[_platforms.length * 2];
+		int mask = platforms.length - 1;
+		for (int id = _firstId; id != _endId; id++) {
+			platforms[id & mask] = _platforms[id & _mask];
+		}
+		_platforms = platforms;
+		_mask = mask;
+	}
+}
@@ -0,0 +1,90 @@
+package DoodleJump;
+
+import javafx.scene.control.Label;
+import javafx.scene.text.Font;
+
+/**
+ProfilerOverlay is a panel, toggled in game with F3, that shows where a tick's time goes: the rolling p50, p99 and
+maximum (in microseconds) of the World's collision, scroll and platform generation phases, of the JavaFX render pulse
+and of the latency from an arrow key change to the tick that applies it, followed by the live platform and hazard
+counts, the chunks of the level generated ahead (and how often the World has had to wait for one) and the number of
+nodes under the root and in the world layer. The measurements themselves are recorded elsewhere, without allocating; the
+overlay only reads them, and rebuilds its text at most every Constants.PROFILER_REFRESH seconds, and only while it is
+showing.
+*/
+public class ProfilerOverlay {
+	private Label _label;
+	private long _lastRefresh;
+
+	/**
+	Constructor that creates the (initially hidden) overlay label in the top left corner, below the quit button.
+	*/
+	public ProfilerOverlay() {
+		_label = new Label();
+		_label.setFont(Font.font("Courier New", 12));
+		_label.setStyle("-fx-background-color: rgba(255, 255, 255, 0.8); -fx-padding: 4;");
+		_label.setLayoutX(10);
+		_label.setLayoutY(40);
+		_label.setMouseTransparent(true);
+		_label.setVisible(false);
+		_lastRefresh = -1;
+	}
+
+	/**
+	Accessor method that returns the overlay's node, to be added to the root pane.
+	*/
+	public Label getNode() {
+		return _label;
+	}
+
+	/**
+	Shows the overlay if it is hidden and hides it if it is showing.
+	*/
+	public void toggle() {
+		_label.setVisible(!_label.isVisible());
+		_lastRefresh = -1;
+	}
+
+	/**
+	Accessor method that returns whether the overlay is showing.
+	*/
+	public boolean isShowing() {
+		return _label.isVisible();
+	}
+
+	/**
+	Rebuilds the overlay's text from the World's phase timings, the frame timings, the input latency and the node
+	counts passed in, if it is showing and has not been refreshed within the last Constants.PROFILER_REFRESH seconds
+	(now being the pulse's timestamp in nanoseconds).
+	*/
+	public void refresh(long now, World world, FrameStats frameStats, KeyState keys, int rootNodes, int worldNodes) {
+		if (!_label.isVisible()
+				|| (_lastRefresh >= 0 && now - _lastRefresh < Constants.PROFILER_REFRESH * 1e9)) {
+			return;
+		}
+		_lastRefresh = now;
+		PhaseTimer phaseTimer = world.getPhaseTimer();
+		StringBuilder text = new StringBuilder();
+		text.append(String.format("%-10s %8s %8s %8s%n", "(us)", "p50", "p99", "max"));
+		ProfilerOverlay.appendRow(text, "collision", phaseTimer.getHistogram(PhaseTimer.COLLISION));
+		ProfilerOverlay.appendRow(text, "scroll", phaseTimer.getHistogram(PhaseTimer.SCROLL));
+		ProfilerOverlay.appendRow(text, "generate", phaseTimer.getHistogram(PhaseTimer.GENERATE));
+		ProfilerOverlay.appendRow(text, "render", frameStats.getRenderHistogram());
+		ProfilerOverlay.appendRow(text, "input", keys.getLatency());
+		text.append(String.format("key changes %d  over a tick %d%n", keys.getChanges(), keys.getLate()));
+		text.append(String.format("platforms %d  hazards %d%n", world.getPlatforms().size(),
+				world.getHazards().size()));
+		text.append(String.format("chunks ready %d  stalls %d%n", world.getChunkFeed().getReady(),
+				world.getChunkFeed().getStalls()));
+		text.append(String.format("root nodes %d  world nodes %d", rootNodes, worldNodes));
+		_label.setText(text.toString());
+	}
+
+	/**
+	Appends one row of percentiles, converted from nanoseconds to microseconds.
+	*/
+	private static void appendRow(StringBuilder text, String name, LatencyHistogram histogram) {
+		text.append(String.format("%-10s %8.1f %8.1f %8.1f%n", name, histogram.getPercentile(0.5) / 1e3,
+				histogram.getPercentile(0.99) / 1e3, histogram.getMax() / 1e3));
+	}
+}
@@ -0,0 +1,175 @@
+package DoodleJump;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.geometry.VPos;
+import javafx.scene.Group;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.*;
+
+/**
+ScoreDisplay shows the score without laying out any text. The digits 0 to 9 are rasterised once, in Courier New at the
+score's size, into a glyph strip for each of the score's three looks - black on graph paper, white against space and
+bold red on the end of game screen - and the score is drawn by a fixed row of ImageViews, each pointing its viewport
+at one digit of the current strip. The row is right-aligned: the units digit always sits where the single digit score
+starts, and each further digit takes one more place to the left. Each digit is centred in a cell as wide as the
+widest digit, so the places stay even should the system substitute a proportional font for Courier New.
+
+Every viewport is created along with its strip, so showing a new score only changes the viewport and visibility of a
+few ImageViews and allocates nothing. Nothing at all is done while the score and its look stay the same.
+*/
+public class ScoreDisplay {
+	private static final int MAX_DIGITS = 10;
+
+	private Pane _pane;
+	private ImageView[] _digitViewers;
+	private GlyphStrip _black;
+	private GlyphStrip _white;
+	private GlyphStrip _gameOver;
+	private GlyphStrip _strip;
+	private int _score;
+
+	/**
+	Constructor that rasterises the glyph strips and creates the row of digit viewers, showing a score of 0. Must be
+	called on the JavaFX thread.
+	*/
+	public ScoreDisplay() {
+		_black = new GlyphStrip(Font.font("Courier New", 35), Color.BLACK);
+		_white = new GlyphStrip(Font.font("Courier New", 35), Color.WHITE);
+		_gameOver = new GlyphStrip(Font.font("Courier New", FontWeight.BOLD, 35), Color.RED);
+		_pane = new Pane();
+		_pane.setMouseTransparent(true);
+		_digitViewers = new ImageView[MAX_DIGITS];
+		for (int i = 0; i < MAX_DIGITS; i++) {
+			_digitViewers[i] = new ImageView();
+			_digitViewers[i].setVisible(false);
+			_pane.getChildren().add(_digitViewers[i]);
+		}
+		_strip = _black;
+		_score = -1;
+		this.redraw(0);
+	}
+
+	/**
+	Accessor method that returns the pane holding the digits, to be placed where the units digit of the score goes.
+	*/
+	public Pane getNode() {
+		return _pane;
+	}
+
+	/**
+	Shows the given score, if it is not already shown. A negative score is shown as 0.
+	*/
+	public void setScore(int score) {
+		if (score < 0) {
+			score = 0;
+		}
+		if (score != _score) {
+			this.redraw(score);
+		}
+	}
+
+	/**
+	Sets the look of the score: "BLACK", "WHITE" or "GAME_OVER" (bold red).
+	*/
+	public void setStyle(String style) {
+		GlyphStrip strip = _black;
+		if (style == "WHITE") {
+			strip = _white;
+		} else if (style == "GAME_OVER") {
+			strip = _gameOver;
+		}
+		if (strip != _strip) {
+			_strip = strip;
+			this.redraw(_score);
+		}
+	}
+
+	/**
+	Points the digit viewers at the digits of the score, units first, and hides the places it does not use.
+	*/
+	private void redraw(int score) {
+		_score = score;
+		int rest = score;
+		for (int i = 0; i < MAX_DIGITS; i++) {
+			ImageView digitViewer = _digitViewers[i];
+			if (i == 0 || rest > 0) {
+				digitViewer.setImage(_strip.getImage());
+				digitViewer.setViewport(_strip.getGlyph(rest % 10));
+				digitViewer.setLayoutX(-i * _strip.getGlyphWidth());
+				digitViewer.setVisible(true);
+				rest = rest / 10;
+			} else {
+				digitViewer.setVisible(false);
+			}
+		}
+	}
+
+	/**
+	The digits 0 to 9 rasterised side by side in one font and colour, with the viewport of each digit.
+	*/
+	private static class GlyphStrip {
+		private WritableImage _image;
+		private Rectangle2D[] _glyphs;
+		private double _glyphWidth;
+
+		/**
+		Constructor that rasterises the digits. Each digit's width is measured on its own, and every digit is centred in
+		a cell as wide as the widest, rounded up to whole pixels.
+		*/
+		public GlyphStrip(Font font, Color color) {
+			Text[] digits = new Text[10];
+			double glyphWidth = 0;
+			double glyphHeight = 0;
+			for (int digit = 0; digit < 10; digit++) {
+				digits[digit] = new Text(String.valueOf(digit));
+				digits[digit].setFont(font);
+				digits[digit].setFill(color);
+				digits[digit].setBoundsType(TextBoundsType.LOGICAL);
+				digits[digit].setTextOrigin(VPos.TOP);
+				Bounds bounds = digits[digit].getLayoutBounds();
+				glyphWidth = Math.max(glyphWidth, bounds.getWidth());
+				glyphHeight = Math.max(glyphHeight, bounds.getHeight());
+			}
+			_glyphWidth = Math.ceil(glyphWidth);
+			glyphHeight = Math.ceil(glyphHeight);
+			Group strip = new Group();
+			_glyphs = new Rectangle2D[10];
+			for (int digit = 0; digit < 10; digit++) {
+				double width = digits[digit].getLayoutBounds().getWidth();
+				digits[digit].setX(digit * _glyphWidth + (_glyphWidth - width) / 2);
+				strip.getChildren().add(digits[digit]);
+				_glyphs[digit] = new Rectangle2D(digit * _glyphWidth, 0, _glyphWidth, glyphHeight);
+			}
+			SnapshotParameters parameters = new SnapshotParameters();
+			parameters.setFill(Color.TRANSPARENT);
+			parameters.setViewport(new Rectangle2D(0, 0, 10 * _glyphWidth, glyphHeight));
+			_image = strip.snapshot(parameters, null);
+		}
+
+		/**
+		Accessor method that returns the strip's image.
+		*/
+		public WritableImage getImage() {
+			return _image;
+		}
+
+		/**
+		Accessor method that returns the viewport of the given digit.
+		*/
+		public Rectangle2D getGlyph(int digit) {
+			return _glyphs[digit];
+		}
+
+		/**
+		Accessor method that returns the width of one digit.
+		*/
+		public double getGlyphWidth() {
+			return _glyphWidth;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package DoodleJump;
+
+/**
+SimpleBot is a scripted player for running the World without a keyboard, in the benchmark and the batch simulator. On
+every step it works out how high the doodle will get before it starts falling, picks the highest live platform it can
+still come down on from there and holds the arrow key that heads for it, taking the short way around the edges of the
+screen. It does not look out for hazards, so it meets them about as often as a careless player would.
+*/
+public class SimpleBot {
+
+	/**
+	Sets the direction held in the input for the next step of the World.
+	*/
+	public static void steer(World world, WorldInput input) {
+		double feet = world.getDoodleY() + Constants.DOODLE_FIT_HEIGHT;
+		double velocity = world.getVelocity();
+		//The doodle's feet at the top of its jump, or where they are now if it is already falling
+		double apex = feet;
+		if (velocity < 0) {
+			apex = feet - velocity * velocity / (2 * Constants.GRAVITY);
+		}
+		PlatformStore platforms = world.getPlatforms();
+		int target = -1;
+		for (int i = 0; i < platforms.size(); i++) {
+			if (platforms.getY(i) >= apex && platforms.isAlive(i)
+					&& (target < 0 || platforms.getY(i) < platforms.getY(target))) {
+				target = i;
+			}
+		}
+		input.setDirection(null);
+		if (target >= 0) {
+			double offset = platforms.getX(target) + platforms.getWidth(target) / 2
+					- (world.getDoodleX() + Constants.CLASSIC_DOODLE_DIM / 2);
+			//The doodle wraps around the screen, so a target more than half a screen away is nearer the other way
+			if (offset > Constants.SCENE_WIDTH / 2) {
+				offset = offset - Constants.SCENE_WIDTH;
+			} else if (offset < -Constants.SCENE_WIDTH / 2) {
+				offset = offset + Constants.SCENE_WIDTH;
+			}
+			if (offset > Constants.LAT_PXL_INCR) {
+				input.setDirection("RIGHT");
+			} else if (offset < -Constants.LAT_PXL_INCR) {
+				input.setDirection("LEFT");
+			}
+		}
+	}
+}
@@ -0,0 +1,269 @@
+package DoodleJump;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.function.Function;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+SpriteAtlas packs every in-game sprite - the platforms, both doodles, the twelve monster images, the rocket, its
+thrust and the black hole - into a single texture, built once the first time any sprite is asked for. Each sprite is
+decoded at Constants.ATLAS_SCALE times the size it is displayed at (rather than at the source file's full
+resolution), and the sprites are packed in shelves, tallest first, into a texture Constants.ATLAS_WIDTH pixels wide.
+A region table maps each sprite's resource path to its rectangle in the texture: an ImageView shows a sprite by
+pointing its viewport at the region, and the canvas renderer draws the region directly. Every game element therefore
+shares one texture, so drawing a frame never switches textures between them, and texture memory is known as soon as
+the atlas is built. Backgrounds and overlays, which are large and shown one at a time, stay in the SpriteCache.
+
+The AssetPreloader decodes the sprites on its own threads (see preload()) and builds the atlas there too; building is
+synchronized, and the texture is only published once it is complete. The JavaFX thread never waits for the build: until
+the atlas is published, apply() shows a sprite on its own, as decoded for the atlas (waiting at most for that one
+decode), and remembers the ImageView; once the atlas is published, every such ImageView is swapped over to its region
+on the JavaFX thread. The first frame is therefore laid out while the atlas is still being packed.
+*/
+public class SpriteAtlas {
+	private static final ArrayList<String> PATHS = new ArrayList<String>();
+	private static final HashMap<String, Double> WIDTHS = new HashMap<String, Double>();
+	private static final Decoder DECODER = new Decoder();
+
+	static {
+		for (PlatformType type : PlatformType.values()) {
+			SpriteAtlas.include(type.getSprite(), Constants.PLATFORM_FIT_WIDTH);
+		}
+		SpriteAtlas.include("Images/doodleL.png", Constants.CLASSIC_DOODLE_DIM);
+		SpriteAtlas.include("Images/doodleR.png", Constants.CLASSIC_DOODLE_DIM);
+		for (int direction = 0; direction < 2; direction++) {
+			for (int species = 0; species < Hazard.MONSTER_SPECIES; species++) {
+				SpriteAtlas.include(Hazard.getMonsterSprite(direction, species), Constants.MONSTER_WIDTH);
+			}
+		}
+		SpriteAtlas.include("Images/rocket.png", Constants.ROCKET_WIDTH);
+		SpriteAtlas.include("Images/thrust.png", Constants.THRUST_WIDTH);
+		SpriteAtlas.include("Images/blackhole.png", Constants.BLACK_HOLE_WIDTH);
+	}
+
+	private static volatile WritableImage _atlas = null;
+	private static HashMap<String, Rectangle2D> _regions = new HashMap<String, Rectangle2D>();
+	private static DecodeTable _decoded = new DecodeTable(DECODER);
+	private static HashMap<ImageView, String> _placeholders = new HashMap<ImageView, String>();
+	private static final Runnable SWAP = new PlaceholderSwap();
+
+	/**
+	The atlas is purely static - there is never a reason to instantiate it.
+	*/
+	private SpriteAtlas() {
+	}
+
+	/**
+	Returns the atlas texture.
+	*/
+	public static Image getImage() {
+		if (_atlas == null) {
+			SpriteAtlas.build();
+		}
+		return _atlas;
+	}
+
+	/**
+	Returns the region of the atlas holding the sprite loaded from the given resource path.
+	*/
+	public static Rectangle2D getRegion(String path) {
+		if (_atlas == null) {
+			SpriteAtlas.build();
+		}
+		return _regions.get(path);
+	}
+
+	/**
+	Accessor method that returns whether the atlas has been built and published.
+	*/
+	public static boolean isReady() {
+		return _atlas != null;
+	}
+
+	/**
+	Makes the ImageView passed in show the sprite loaded from the given resource path. Until the atlas is published the
+	sprite is shown on its own, and the ImageView is switched to the atlas once it is. Called on the JavaFX thread.
+	*/
+	public static void apply(ImageView viewer, String path) {
+		if (_atlas == null) {
+			viewer.setImage(SpriteAtlas.getSprite(path));
+			viewer.setViewport(null);
+			_placeholders.put(viewer, path);
+			return;
+		}
+		if (!_placeholders.isEmpty()) {
+			_placeholders.remove(viewer);
+		}
+		viewer.setImage(_atlas);
+		viewer.setViewport(_regions.get(path));
+	}
+
+	/**
+	Returns the sprite at the given path on its own, decoded at its atlas size, for showing before the atlas is
+	published. Waits for the sprite's decode if it is under way, and decodes it if it has not started.
+	*/
+	public static Image getSprite(String path) {
+		Image sprite = _decoded.get(path);
+		//Not needed by the atlas if it was published meanwhile
+		if (_atlas != null) {
+			_decoded.remove(path);
+		}
+		return sprite;
+	}
+
+	/**
+	Returns the resource paths of every sprite the atlas packs.
+	*/
+	public static String[] getSpritePaths() {
+		return PATHS.toArray(new String[PATHS.size()]);
+	}
+
+	/**
+	Decodes the sprite at the given path at its atlas size, unless that is already done or under way, ready for the
+	atlas to be built. Safe to call from any thread.
+	*/
+	public static void preload(String path) {
+		if (_atlas == null) {
+			SpriteAtlas.getSprite(path);
+		}
+	}
+
+	/**
+	Builds the atlas unless it is already built. Safe to call from any thread.
+	*/
+	public static void prepare() {
+		if (_atlas == null) {
+			SpriteAtlas.build();
+		}
+	}
+
+	/**
+	Decodes every sprite at its atlas size (those preloaded already are reused), places them shelf by shelf and copies
+	their pixels into the texture, which is published once complete.
+	*/
+	private static synchronized void build() {
+		if (_atlas != null) {
+			return;
+		}
+		ArrayList<Image> sprites = new ArrayList<Image>();
+		for (String path : PATHS) {
+			sprites.add(_decoded.get(path));
+		}
+
+		//Tallest first, so each shelf wastes as little height as possible
+		int[] order = new int[sprites.size()];
+		for (int i = 0; i < order.length; i++) {
+			int j = i;
+			while (j > 0 && sprites.get(order[j - 1]).getHeight() < sprites.get(i).getHeight()) {
+				order[j] = order[j - 1];
+				j = j - 1;
+			}
+			order[j] = i;
+		}
+		int padding = Constants.ATLAS_PADDING;
+		int[] x = new int[order.length];
+		int[] y = new int[order.length];
+		int shelfX = padding;
+		int shelfY = padding;
+		int shelfHeight = 0;
+		for (int i : order) {
+			int width = (int) sprites.get(i).getWidth();
+			int height = (int) sprites.get(i).getHeight();
+			if (shelfX + width + padding > Constants.ATLAS_WIDTH) {
+				shelfX = padding;
+				shelfY = shelfY + shelfHeight + padding;
+				shelfHeight = 0;
+			}
+			x[i] = shelfX;
+			y[i] = shelfY;
+			shelfX = shelfX + width + padding;
+			shelfHeight = Math.max(shelfHeight, height);
+		}
+		WritableImage atlas = new WritableImage(Constants.ATLAS_WIDTH, shelfY + shelfHeight + padding);
+		for (int i = 0; i < sprites.size(); i++) {
+			Image sprite = sprites.get(i);
+			int width = (int) sprite.getWidth();
+			int height = (int) sprite.getHeight();
+			int[] pixels = new int[width * height];
+			sprite.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0,
+					width);
+			atlas.getPixelWriter().setPixels(x[i], y[i], width, height, PixelFormat.getIntArgbInstance(), pixels, 0,
+					width);
+			_regions.put(PATHS.get(i), new Rectangle2D(x[i], y[i], width, height));
+		}
+		_atlas = atlas;
+		//The pixels now live in the atlas
+		_decoded.clear();
+		javafx.application.Platform.runLater(SWAP);
+	}
+
+	/**
+	Adds the sprite at the given path, displayed at the given width, to the sprites the atlas packs.
+	*/
+	private static void include(String path, double displayWidth) {
+		PATHS.add(path);
+		WIDTHS.put(path, displayWidth);
+	}
+
+	/**
+	Accessor method that returns the number of sprites packed.
+	*/
+	public static int getSize() {
+		return _regions.size();
+	}
+
+	/**
+	Accessor method that returns the memory, in bytes, occupied by the atlas texture (32-bit ARGB, so four bytes per
+	pixel).
+	*/
+	public static long getTextureBytes() {
+		if (_atlas == null) {
+			return 0;
+		}
+		return (long) _atlas.getWidth() * (long) _atlas.getHeight() * 4;
+	}
+
+	/**
+	Returns a one line summary of the atlas, used when logging at the end of a game.
+	*/
+	public static String getReport() {
+		if (_atlas == null) {
+			return "SpriteAtlas: not built";
+		}
+		return "SpriteAtlas: " + _regions.size() + " sprites in one " + (int) _atlas.getWidth() + "x"
+				+ (int) _atlas.getHeight() + " texture, " + (SpriteAtlas.getTextureBytes() / 1024) + " KB";
+	}
+
+	/**
+	Switches every ImageView that was given a sprite on its own before the atlas was published over to the sprite's
+	region of the atlas. Runs on the JavaFX thread.
+	*/
+	private static class PlaceholderSwap implements Runnable {
+
+		@Override
+		public void run() {
+			for (ImageView viewer : _placeholders.keySet()) {
+				viewer.setImage(_atlas);
+				viewer.setViewport(_regions.get(_placeholders.get(viewer)));
+			}
+			_placeholders.clear();
+		}
+	}
+
+	/**
+	Decodes the sprite at a resource path for the DecodeTable, scaled (with its aspect ratio preserved) to
+	Constants.ATLAS_SCALE times the width it is displayed at.
+	*/
+	private static class Decoder implements Function<String, Image> {
+
+		@Override
+		public Image apply(String path) {
+			return new Image(path, Math.ceil(WIDTHS.get(path) * Constants.ATLAS_SCALE), 0, true, true);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package DoodleJump;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javafx.scene.image.Image;
+
+/**
+SpriteCache is a process-wide store of every decoded game image, keyed by the resource path used to load it (for
+example "Images/normalplatform.png"). Each image is decoded exactly once, the first time it is asked for, and the
+same Image instance is then shared by every Platform, Doodle, hazard and overlay that renders it. Hit and miss counts
+and the memory held by decoded pixels are tracked so that per-frame image allocation can be confirmed to be zero.
+
+Images may be decoded ahead of time on the AssetPreloader's threads, so the store is a DecodeTable: an image is still
+decoded only once, and a request for one that is being decoded on another thread waits for that decode alone instead
+of repeating it. The hit and miss counts are only kept by get(), which
+is called on the JavaFX thread.
+*/
+public class SpriteCache {
+	private static final Decoder DECODER = new Decoder();
+	private static DecodeTable _sprites = new DecodeTable(DECODER);
+	private static int _hits = 0;
+	private static int _misses = 0;
+	private static AtomicLong _decodedBytes = new AtomicLong();
+
+	/**
+	The cache is purely static - there is never a reason to instantiate it.
+	*/
+	private SpriteCache() {
+	}
+
+	/**
+	Returns the image stored under the given resource path, decoding and storing it first if this is the first request
+	for that path.
+	*/
+	public static Image get(String path) {
+		if (_sprites.isDone(path)) {
+			_hits = _hits + 1;
+		} else {
+			_misses = _misses + 1;
+		}
+		return _sprites.get(path);
+	}
+
+	/**
+	Decodes and stores the image at the given resource path unless it is already held. Safe to call from any thread;
+	does not count as a hit or a miss.
+	*/
+	public static void preload(String path) {
+		_sprites.get(path);
+	}
+
+	/**
+	Accessor method that returns the number of requests served from already decoded images.
+	*/
+	public static int getHits() {
+		return _hits;
+	}
+
+	/**
+	Accessor method that returns the number of requests that required an image to be decoded.
+	*/
+	public static int getMisses() {
+		return _misses;
+	}
+
+	/**
+	Accessor method that returns the number of distinct images currently held.
+	*/
+	public static int getSize() {
+		return _sprites.size();
+	}
+
+	/**
+	Accessor method that returns the approximate memory, in bytes, occupied by all decoded pixels.
+	*/
+	public static long getDecodedBytes() {
+		return _decodedBytes.get();
+	}
+
+	/**
+	Returns a one line summary of the cache's counters, used when logging at the end of a game.
+	*/
+	public static String getReport() {
+		return "SpriteCache: " + _sprites.size() + " sprites, " + _hits + " hits, " + _misses + " misses, "
+				+ (_decodedBytes.get() / 1024) + " KB decoded";
+	}
+
+	/**
+	Decodes the image at a resource path for the DecodeTable, adding its pixels to the decoded memory.
+	*/
+	private static class Decoder implements Function<String, Image> {
+
+		@Override
+		public Image apply(String path) {
+			Image sprite = new Image(path);
+			//Decoded images are held as 32-bit ARGB, so four bytes per pixel
+			_decodedBytes.addAndGet((long) sprite.getWidth() * (long) sprite.getHeight() * 4);
+			return sprite;
+		}
+	}
+}
@@ -0,0 +1,607 @@
+package DoodleJump;
+
+import java.util.Random;
+
+/**
+World is the headless model of a game of Doodle Jump. It holds the doodle, the platforms and the hazards as plain
+state and advances all of them with step(dt, input) - lateral movement, monster pacing, gravity, contact with
+platforms, black holes, monsters and rockets, scrolling and platform generation. It imports nothing from JavaFX, so
+it runs (and can be simulated faster than real time) without a display; the DoodleGame class is a view that reads
+it after every step and reacts to the events reported through its WorldListener. Any number of hazards may be live
+at once; they are kept in a HazardStore. The platforms are kept as parallel primitive arrays in a PlatformStore and
+reported to the listener by id, so no object stands for a platform on either side.
+
+Every element has a stable world position - nothing moves when the screen scrolls. Instead a camera (the world y
+shown at the top of the screen) follows the doodle upwards, and screen y is simply world y minus the camera's y.
+
+All of the game's randomness - platform positions and types, hazard timing and monster looks - follows from one seed
+given when the World is created: hazards draw from the World's own generator, and the platform layout comes from a
+LevelGenerator seeded from it. Since the World also steps in fixed increments, the same seed and the same input on the
+same ticks always play out the same game, which is what lets an InputLog replay a recorded run. The layout is taken
+in chunks from a ChunkFeed, which can generate them ahead on a background thread (see generateInBackground()).
+*/
+public class World {
+	private WorldListener _listener;
+	private PlatformStore _platforms;
+	private PlatformIndex _platformIndex;
+	private double _topX;
+	private double _topY;
+	private ChunkFeed _feed;
+	private PlatformChunk _chunk;
+	private int _chunkNext;
+	private HazardStore _hazards;
+	private Hazard _swallowedBy;
+
+	private double _doodleX;
+	private double _doodleY;
+	private double _cameraY;
+	private double _previousDoodleX;
+	private double _previousDoodleY;
+	private double _previousCameraY;
+	private double _velocity;
+	private PlatformType _bounceType;
+	private String _lateralDirection;
+	private String _playStatus;
+	private String _gameStatus;
+	private boolean _falling;
+	private boolean _launched;
+	private int _counter;
+	private int _score;
+	private PhaseTimer _phaseTimer;
+	private long _seed;
+	private Random _random;
+	private long _tick;
+	private int _blackHoleInc;
+	private int _rocketInc;
+	private int _monsterInc;
+
+	/**
+	Constructor for a game seeded at random.
+	*/
+	public World(WorldListener listener) {
+		this(listener, new Random().nextLong());
+	}
+
+	/**
+	World's constructor seeds the random number generator and the level's layout, chooses how often each kind of hazard
+	is added, places the doodle at the vertical midpoint with an initial jump velocity, adds the first platform just
+	above it and generates platforms up to the top of the screen. Events are reported to the listener passed in, which
+	may be null when no view is attached.
+	*/
+	public World(WorldListener listener, long seed) {
+		_listener = listener;
+		_seed = seed;
+		_random = new Random(seed);
+		_tick = 0;
+		_blackHoleInc = Constants.BLACK_HOLE_INC + _random.nextInt(Constants.BLACK_HOLE_INC_SPREAD);
+		_rocketInc = Constants.ROCKET_INC + _random.nextInt(Constants.ROCKET_INC_SPREAD);
+		_monsterInc = Constants.MONSTER_INC + _random.nextInt(Constants.MONSTER_INC_SPREAD);
+		_platforms = new PlatformStore(16);
+		_platformIndex = new PlatformIndex(_platforms);
+		_hazards = new HazardStore(4);
+		_swallowedBy = null;
+		_doodleX = Constants.SCENE_WIDTH / 2 - Constants.CLASSIC_DOODLE_DIM / 2;
+		_doodleY = Constants.SCENE_HEIGHT / 2;
+		_cameraY = 0;
+		_previousDoodleX = _doodleX;
+		_previousDoodleY = _doodleY;
+		_previousCameraY = _cameraY;
+		_velocity = Constants.REBOUND_VELOCITY;
+		_playStatus = "PLAYING";
+		_gameStatus = "RUNNING";
+		_falling = false;
+		_launched = false;
+		_counter = 0;
+		_score = 0;
+		_phaseTimer = new PhaseTimer();
+		_feed = new ChunkFeed(new LevelGenerator(_random.nextLong()));
+		_chunk = null;
+		_chunkNext = 0;
+		this.addNextPlatform();
+		this.generatePlatforms();
+	}
+
+	/**
+	Advances the world by dt seconds. This is the game's single tick: its phases always run in the same order - input,
+	lateral movement, monster motion, vertical physics, collision and scroll - and each is timed by the PhaseTimer.
+	Before the first phase the doodle and camera positions are recorded so a view can interpolate between steps. Does
+	nothing once the game is over.
+	*/
+	public void step(double dt, WorldInput input) {
+		if (_gameStatus == "OVER") {
+			return;
+		}
+		_tick = _tick + 1;
+		_phaseTimer.beginTick();
+		_previousDoodleX = _doodleX;
+		_previousDoodleY = _doodleY;
+		_previousCameraY = _cameraY;
+		this.applyInput(input);
+		_phaseTimer.endPhase(PhaseTimer.INPUT);
+		this.moveDoodle(_lateralDirection);
+		_phaseTimer.endPhase(PhaseTimer.LATERAL);
+		for (int i = 0; i < _hazards.size(HazardStore.MONSTER); i++) {
+			_hazards.get(HazardStore.MONSTER, i).pace(dt);
+		}
+		_phaseTimer.endPhase(PhaseTimer.MONSTERS);
+		this.updateDoodleVertically(dt);
+		_phaseTimer.endPhase(PhaseTimer.PHYSICS);
+		this.checkContact();
+		_phaseTimer.endPhase(PhaseTimer.COLLISION);
+		if (_gameStatus == "OVER") {
+			return;
+		}
+		this.scroll();
+		//Checks to see if the doodle has fallen below the lower boundary of the screen. If so, ends the game.
+		if (_doodleY - _cameraY > Constants.SCENE_HEIGHT) {
+			_falling = true;
+			_gameStatus = "OVER";
+			_feed.stop();
+			if (_listener != null) {
+				_listener.gameOver("FALL");
+			}
+		}
+		_phaseTimer.endPhase(PhaseTimer.SCROLL);
+	}
+
+	/**
+	Takes up the lateral direction held in the input. It only applies while playing, as the arrow keys are ignored
+	during a rocket launch.
+	*/
+	private void applyInput(WorldInput input) {
+		_lateralDirection = null;
+		if (input != null && _playStatus == "PLAYING") {
+			_lateralDirection = input.getDirection();
+		}
+	}
+
+	/**
+	Moves the doodle left or right by a constant-defined increment, wrapping around the edges of the screen.
+	*/
+	private void moveDoodle(String direction) {
+		if (direction == "LEFT") {
+			if (_doodleX <= 0) {
+				_doodleX = Constants.SCENE_WIDTH;
+			}
+			_doodleX = _doodleX - Constants.LAT_PXL_INCR;
+		} else if (direction == "RIGHT") {
+			if (_doodleX >= Constants.SCENE_WIDTH) {
+				_doodleX = 0;
+			}
+			_doodleX = _doodleX + Constants.LAT_PXL_INCR;
+		}
+	}
+
+	/**
+	Updates the doodle's velocity under gravity and then its vertical position. Gravity acts on every tick, the one
+	after a bounce included.
+	*/
+	private void updateDoodleVertically(double dt) {
+		_velocity = _velocity + Constants.GRAVITY * dt;
+		_doodleY = _doodleY + _velocity * dt + 0.5 * Constants.GRAVITY * dt * dt;
+	}
+
+	/**
+	Checks for contact between the doodle and the platforms (only while falling onto them), then with the black hole,
+	monster and rocket, manipulating velocity in a manner specific to each. Finally ends a rocket launch once the
+	doodle starts falling again.
+	*/
+	private void checkContact() {
+		double doodleWidth = Constants.CLASSIC_DOODLE_DIM;
+		double doodleHeight = Constants.DOODLE_FIT_HEIGHT;
+		//After an intersection with a monster, platforms are ignored, ensuring the game ends.
+		//Only platforms whose top edge lies within the doodle's vertical extent can be touching it.
+		if (!_falling && _velocity > 0) {
+			_platformIndex.query(_doodleY - PlatformType.getMaxHeight(), _doodleY + doodleHeight);
+			int landed = _platforms.findIntersecting(_platformIndex.getQueryStart(), _platformIndex.getQueryEnd(),
+					_doodleX, _doodleY, doodleWidth, doodleHeight);
+			if (landed >= 0) {
+				this.bounce(landed);
+			}
+		}
+		//Every live hazard is checked, kind by kind. A black hole ends the game at once.
+		for (int kind = 0; kind < HazardStore.KIND_COUNT; kind++) {
+			for (int i = _hazards.size(kind) - 1; i >= 0; i--) {
+				if (_hazards.get(kind, i).intersects(_doodleX, _doodleY, doodleWidth, doodleHeight)) {
+					this.hitHazard(kind, i);
+					if (_gameStatus == "OVER") {
+						return;
+					}
+				}
+			}
+		}
+		if (_launched && _playStatus == "PAUSED" && _velocity > -600) {
+			_playStatus = "PLAYING";
+		}
+		if (_launched && _velocity > 0) {
+			_launched = false;
+			_playStatus = "PLAYING";
+			if (_listener != null) {
+				_listener.rocketLanded();
+			}
+		}
+	}
+
+	/**
+	Reacts to the doodle touching the i-th hazard of the given kind. A black hole swallows the doodle and ends the
+	game; a monster knocks it into an unstoppable fall; a rocket is taken up and launches it. A launched doodle is
+	immune to black holes and monsters.
+	*/
+	private void hitHazard(int kind, int i) {
+		Hazard hazard = _hazards.get(kind, i);
+		if (kind == HazardStore.BLACK_HOLE && !_launched) {
+			if (_listener != null) {
+				_listener.hazardHit(hazard);
+			}
+			_doodleX = hazard.getX() + 15;
+			_doodleY = hazard.getY() + 45;
+			_swallowedBy = hazard;
+			_gameStatus = "OVER";
+			_feed.stop();
+			if (_listener != null) {
+				_listener.gameOver("BLACK_HOLE");
+			}
+		} else if (kind == HazardStore.MONSTER && !_launched && !_falling) {
+			//An actively falling doodle
+			if (_listener != null) {
+				_listener.hazardHit(hazard);
+			}
+			_velocity = 100;
+			_falling = true;
+			hazard.stop();
+		} else if (kind == HazardStore.ROCKET) {
+			if (_listener != null) {
+				_listener.hazardHit(hazard);
+			}
+			_launched = true;
+			_velocity = Constants.REBOUND_VELOCITY * Constants.ROCKET_VELOCITY_FACTOR;
+			_playStatus = "PAUSED";
+			this.despawnHazard(kind, i);
+			if (_listener != null) {
+				_listener.rocketLaunched();
+			}
+		}
+	}
+
+	/**
+	Manipulates velocity depending on the type of platform contacted, then uses the semi-randomly defined increments
+	to decide whether to add a black hole, rocket or monster. Counter refers to the number of times the doodle has hit
+	a platform. The platform is given by its index in the PlatformStore.
+	*/
+	private void bounce(int platform) {
+		_counter = _counter + 1;
+		PlatformType type = _platforms.getType(platform);
+		_velocity = Constants.REBOUND_VELOCITY * type.getReboundFactor();
+		_bounceType = type;
+		if (type.vanishesOnContact()) {
+			//Platform vanishes at impact
+			_platforms.kill(platform);
+			if (_listener != null) {
+				_listener.platformVanished(_platforms.getId(platform));
+			}
+		}
+		if (_counter % _blackHoleInc == 0) {
+			this.addBlackHole();
+		}
+		if (_counter % _rocketInc == 0) {
+			this.addRocket();
+		}
+		if (_counter % _monsterInc == 0) {
+			this.addMonster();
+		}
+	}
+
+	/**
+	Adds platforms while the topmost platform is below the top of the screen, taking them in order from the current
+	chunk of the layout and fetching the next chunk from the feed when it is used up.
+	*/
+	private void generatePlatforms() {
+		while (_topY - _cameraY > 0) {
+			this.addNextPlatform();
+		}
+	}
+
+	/**
+	Adds the next platform of the layout at the top of the ring.
+	*/
+	private void addNextPlatform() {
+		if (_chunk == null || _chunkNext == _chunk.size()) {
+			_chunk = _feed.take(_chunk);
+			_chunkNext = 0;
+		}
+		double x = _chunk.getX(_chunkNext);
+		double y = _chunk.getY(_chunkNext);
+		PlatformType type = _chunk.getType(_chunkNext);
+		_chunkNext = _chunkNext + 1;
+		int id = _platforms.addTop(x, y, type);
+		_topX = x;
+		_topY = y;
+		if (_listener != null) {
+			_listener.platformAdded(id, x, y, type);
+		}
+	}
+
+	/**
+	Discards elements that have moved below the screen, tops the screen up with new platforms, and, while the doodle is
+	rising above the midpoint, moves the camera up by the difference - the only thing that changes when scrolling.
+	*/
+	private void scroll() {
+		double bottom = _cameraY + Constants.SCENE_HEIGHT;
+		//Platforms below the screen always form the bottom of the ring, so they are evicted from there in one batch
+		//and the screen is topped up once.
+		for (int below = _platforms.countBelow(bottom); below > 0; below--) {
+			int id = _platforms.removeBottom();
+			if (_listener != null) {
+				_listener.platformRemoved(id);
+			}
+		}
+		long generateStart = _phaseTimer.beginSection();
+		this.generatePlatforms();
+		_phaseTimer.endSection(PhaseTimer.GENERATE, generateStart);
+		for (int kind = 0; kind < HazardStore.KIND_COUNT; kind++) {
+			for (int i = _hazards.size(kind) - 1; i >= 0; i--) {
+				if (_hazards.get(kind, i).getY() > bottom) {
+					this.despawnHazard(kind, i);
+				}
+			}
+		}
+		double midpoint = _cameraY + Constants.SCENE_HEIGHT / 2;
+		if (_doodleY < midpoint && _velocity < 0) {
+			double difference = midpoint - _doodleY;
+			_cameraY = _cameraY - difference;
+			_score = _score + (int) difference;
+		}
+	}
+
+	/**
+	Adds a black hole, its x location based loosely on the newest platform's position to ensure the two don't overlap.
+	*/
+	private void addBlackHole() {
+		this.spawnHazard(new Hazard("BLACK_HOLE", this.hazardX(80), _cameraY - 100, Constants.BLACK_HOLE_WIDTH,
+				Constants.BLACK_HOLE_HEIGHT, 0));
+	}
+
+	/**
+	Adds a tilted rocket, its x location based loosely on the newest platform's position.
+	*/
+	private void addRocket() {
+		this.spawnHazard(new Hazard("ROCKET", this.hazardX(120), _cameraY - 100, Constants.ROCKET_WIDTH,
+				Constants.ROCKET_HEIGHT, Constants.ROCKET_ROTATE));
+	}
+
+	/**
+	Adds a monster well above the screen, randomly selecting its species, its speed and whether it paces at all
+	(favoring mobile). Its initial movement covers the larger half of the screen.
+	*/
+	private void addMonster() {
+		Hazard monster = new Hazard("MONSTER", this.hazardX(40), _cameraY - 700, Constants.MONSTER_WIDTH,
+				Constants.MONSTER_HEIGHT, 0);
+		String movingDirection = "RIGHT";
+		if (monster.getX() > Constants.SCENE_WIDTH - Constants.MONSTER_WIDTH / 2) {
+			movingDirection = "LEFT";
+		}
+		int monsterInt = _random.nextInt(Hazard.MONSTER_SPECIES);
+		int speedFactor = 1 + _random.nextInt(6);
+		int movementInt = _random.nextInt(3);
+		monster.setPacing(movingDirection, monsterInt, movementInt != 0, Constants.DURATION * speedFactor / 2);
+		this.spawnHazard(monster);
+	}
+
+	/**
+	Places a hazard the given offset away from the newest platform, towards the middle of the screen.
+	*/
+	private double hazardX(double offset) {
+		double platformX = _topX + Constants.PLATFORM_WIDTH / 2;
+		if (platformX > Constants.SCENE_WIDTH / 2) {
+			return platformX - offset;
+		} else if (platformX < Constants.SCENE_WIDTH / 2) {
+			return platformX + offset;
+		}
+		return 0;
+	}
+
+	/**
+	Adds a hazard to the store and reports it. Any hazard of the same kind still waiting above the top of the screen is
+	replaced rather than kept, so a doodle bouncing in place (which spawns hazards without the camera moving) cannot
+	pile up hazards that will never be seen.
+	*/
+	private void spawnHazard(Hazard hazard) {
+		int kind = HazardStore.kindOf(hazard.getType());
+		for (int i = _hazards.size(kind) - 1; i >= 0; i--) {
+			if (_hazards.get(kind, i).getY() < _cameraY) {
+				this.despawnHazard(kind, i);
+			}
+		}
+		_hazards.add(hazard);
+		if (_listener != null) {
+			_listener.hazardAdded(hazard);
+		}
+	}
+
+	/**
+	Removes the i-th hazard of the given kind from the store and reports it as discarded.
+	*/
+	private void despawnHazard(int kind, int i) {
+		Hazard hazard = _hazards.remove(kind, i);
+		if (_listener != null) {
+			_listener.hazardRemoved(hazard);
+		}
+	}
+
+	/**
+	Accessor method that returns the doodle's x location.
+	*/
+	public double getDoodleX() {
+		return _doodleX;
+	}
+
+	/**
+	Accessor method that returns the doodle's y location in the world.
+	*/
+	public double getDoodleY() {
+		return _doodleY;
+	}
+
+	/**
+	Accessor method that returns the doodle's y location on the screen.
+	*/
+	public double getDoodleScreenY() {
+		return _doodleY - _cameraY;
+	}
+
+	/**
+	Accessor method that returns the camera's y location - the world y shown at the top of the screen.
+	*/
+	public double getCameraY() {
+		return _cameraY;
+	}
+
+	/**
+	Accessor method that returns the doodle's x location before the last step.
+	*/
+	public double getPreviousDoodleX() {
+		return _previousDoodleX;
+	}
+
+	/**
+	Accessor method that returns the doodle's y location in the world before the last step.
+	*/
+	public double getPreviousDoodleY() {
+		return _previousDoodleY;
+	}
+
+	/**
+	Accessor method that returns the camera's y location before the last step.
+	*/
+	public double getPreviousCameraY() {
+		return _previousCameraY;
+	}
+
+	/**
+	Accessor method that returns the doodle's vertical velocity (UNITS: pixels/s, negative is upwards).
+	*/
+	public double getVelocity() {
+		return _velocity;
+	}
+
+	/**
+	Accessor method that returns the type of the last platform bounced on.
+	*/
+	public PlatformType getBounceType() {
+		return _bounceType;
+	}
+
+	/**
+	Accessor method that returns whether the doodle currently responds to lateral input ("PLAYING" or "PAUSED").
+	*/
+	public String getPlayStatus() {
+		return _playStatus;
+	}
+
+	/**
+	Mutator method used by the view to mark the game as paused or playing.
+	*/
+	public void setPlayStatus(String playStatus) {
+		_playStatus = playStatus;
+	}
+
+	/**
+	Accessor method that returns "RUNNING" or, once the doodle has fallen or been swallowed, "OVER".
+	*/
+	public String getGameStatus() {
+		return _gameStatus;
+	}
+
+	/**
+	Accessor method that returns the timings of each phase of the tick.
+	*/
+	public PhaseTimer getPhaseTimer() {
+		return _phaseTimer;
+	}
+
+	/**
+	Moves platform generation onto a background thread, which from then on keeps chunks of the layout ready ahead of
+	the doodle, so generating platforms no longer costs the thread that steps the World. The thread stops when the
+	game ends. Call this between steps; a headless World that never calls it generates inline.
+	*/
+	public void generateInBackground() {
+		if (_gameStatus == "RUNNING") {
+			_feed.generateInBackground();
+		}
+	}
+
+	/**
+	Accessor method that returns the feed the platform layout is taken from.
+	*/
+	public ChunkFeed getChunkFeed() {
+		return _feed;
+	}
+
+	/**
+	Accessor method that returns the seed the game's randomness was drawn from.
+	*/
+	public long getSeed() {
+		return _seed;
+	}
+
+	/**
+	Accessor method that returns the number of ticks stepped so far.
+	*/
+	public long getTick() {
+		return _tick;
+	}
+
+	/**
+	Accessor method that returns the current score.
+	*/
+	public int getScore() {
+		return _score;
+	}
+
+	/**
+	Accessor method that returns the live platforms, from the bottom of the screen to the top.
+	*/
+	public PlatformStore getPlatforms() {
+		return _platforms;
+	}
+
+	/**
+	Accessor method that returns the live hazards.
+	*/
+	public HazardStore getHazards() {
+		return _hazards;
+	}
+
+	/**
+	Accessor method that returns the black hole that swallowed the doodle, or null if none did.
+	*/
+	public Hazard getSwallowingBlackHole() {
+		return _swallowedBy;
+	}
+
+	/**
+	Returns a readable dump of the World's state: the seed, tick and status, the doodle and camera, then one line per
+	live platform (bottom to top) and per live hazard.
+	*/
+	public String getSnapshot() {
+		StringBuilder snapshot = new StringBuilder();
+		snapshot.append(String.format("seed %d  tick %d  score %d  %s / %s%n", _seed, _tick, _score, _gameStatus,
+				_playStatus));
+		snapshot.append(String.format("doodle x %.1f  y %.1f  velocity %.1f  camera y %.1f%n", _doodleX, _doodleY,
+				_velocity, _cameraY));
+		snapshot.append(String.format("platforms %d%n", _platforms.size()));
+		for (int i = 0; i < _platforms.size(); i++) {
+			snapshot.append(String.format("  %-10s x %.1f  y %.1f%s%n", _platforms.getType(i), _platforms.getX(i),
+					_platforms.getY(i), _platforms.isAlive(i) ? "" : "  vanished"));
+		}
+		snapshot.append(String.format("hazards %d%n", _hazards.size()));
+		for (int kind = 0; kind < HazardStore.KIND_COUNT; kind++) {
+			for (int i = 0; i < _hazards.size(kind); i++) {
+				Hazard hazard = _hazards.get(kind, i);
+				snapshot.append(String.format("  %-10s x %.1f  y %.1f%n", hazard.getType(), hazard.getX(),
+						hazard.getY()));
+			}
+		}
+		return snapshot.toString();
+	}
+}
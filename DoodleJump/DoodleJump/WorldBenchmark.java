@@ -0,0 +1,211 @@
+package DoodleJump;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+WorldBenchmark measures the game's hot paths headlessly - the World imports nothing from JavaFX, so it runs on a
+machine without a display. Run it with "java -cp <classes> DoodleJump.WorldBenchmark" (optionally followed by the
+number of warmup and measured iterations, each one second long). Every benchmark warms up, then reports throughput
+(operations per second, mean and spread over the measured iterations) and allocation, both per operation and per
+second, read from the JVM's per-thread allocation counter. Every World is seeded, so each run plays the same games.
+The benchmarks are:
+
+step - a World stepped at the physics rate, steered by a SimpleBot, with 0, 8 or 64 extra hazards kept live (out of
+the doodle's reach) to show how the tick scales with them.
+
+rocket - the same, but the doodle is relaunched by a rocket every time it lands, so it climbs at REBOUND_VELOCITY *
+ROCKET_VELOCITY_FACTOR and scrolling and platform generation run on almost every step.
+
+query - the collision lookup (a PlatformIndex query over a PlatformStore) with 8, 64, 512 or 4096 platforms.
+
+After each World benchmark one more iteration is run with the World's PhaseTimer switched on, and the mean time of
+the physics, collision, scroll and generation phases is printed - timing is otherwise switched off, so that it does
+not weigh on the throughput.
+*/
+public class WorldBenchmark {
+	private static final double DT = 1.0 / Constants.PHYSICS_RATE;
+	private static final int BATCH = 1000;
+	private static final long SEED = 42;
+	private static final int[] HAZARD_COUNTS = { 0, 8, 64 };
+	private static final int[] PLATFORM_COUNTS = { 8, 64, 512, 4096 };
+
+	private World _world;
+	private WorldInput _input;
+	private Hazard[] _extraHazards;
+	private Hazard _rocket;
+	private boolean _relaunch;
+	private boolean _timing;
+	private PlatformStore _store;
+	private PlatformIndex _index;
+	private double _queryY;
+	private long _sink;
+	private long _games;
+
+	/**
+	Runs every benchmark and prints the results as a table.
+	*/
+	public static void main(String[] argv) {
+		int warmups = 5;
+		int iterations = 5;
+		if (argv.length > 0) {
+			warmups = Integer.parseInt(argv[0]);
+		}
+		if (argv.length > 1) {
+			iterations = Integer.parseInt(argv[1]);
+		}
+		System.out.println(String.format("%-8s %9s %7s %16s %12s %10s %10s", "Benchmark", "platforms", "hazards",
+				"ops/s", "(+/-)", "B/op", "MB/s"));
+		for (int hazards : HAZARD_COUNTS) {
+			WorldBenchmark benchmark = new WorldBenchmark();
+			benchmark.setUpWorld(hazards, false);
+			benchmark.run("step", "-", hazards, warmups, iterations);
+		}
+		for (int hazards : HAZARD_COUNTS) {
+			WorldBenchmark benchmark = new WorldBenchmark();
+			benchmark.setUpWorld(hazards, true);
+			benchmark.run("rocket", "-", hazards, warmups, iterations);
+		}
+		for (int platforms : PLATFORM_COUNTS) {
+			WorldBenchmark benchmark = new WorldBenchmark();
+			benchmark.setUpQuery(platforms);
+			benchmark.run("query", Integer.toString(platforms), 0, warmups, iterations);
+		}
+	}
+
+	/**
+	Creates a fresh World, with the given number of extra hazards and, for the rocket scenario, a rocket to relaunch
+	the doodle with.
+	*/
+	private void setUpWorld(int hazards, boolean relaunch) {
+		_world = new World(null, SEED + _games);
+		_games = _games + 1;
+		_world.getPhaseTimer().setEnabled(_timing);
+		_input = new WorldInput();
+		_relaunch = relaunch;
+		_rocket = new Hazard("ROCKET", 0, 0, Constants.ROCKET_WIDTH, Constants.ROCKET_HEIGHT, 0);
+		_extraHazards = new Hazard[hazards];
+		for (int i = 0; i < hazards; i++) {
+			String type = "BLACK_HOLE";
+			if (i % 3 == 1) {
+				type = "MONSTER";
+			} else if (i % 3 == 2) {
+				type = "ROCKET";
+			}
+			//Far to the left of the screen, so the doodle never touches them
+			_extraHazards[i] = new Hazard(type, -10 * Constants.SCENE_WIDTH, 0, Constants.MONSTER_WIDTH,
+					Constants.MONSTER_HEIGHT, 0);
+			_world.getHazards().add(_extraHazards[i]);
+		}
+		this.keepHazardsLive();
+	}
+
+	/**
+	Fills a platform store the way the World does, each platform 75 to 300 pixels above the last, and aims queries
+	at its middle.
+	*/
+	private void setUpQuery(int platforms) {
+		_store = new PlatformStore(platforms);
+		_index = new PlatformIndex(_store);
+		Random random = new Random(SEED);
+		double y = 0;
+		for (int i = 0; i < platforms; i++) {
+			_store.addTop(Constants.SCENE_WIDTH / 2, y, PlatformType.sample(random));
+			y = y - 75 - random.nextInt(226);
+		}
+		_queryY = y / 2;
+	}
+
+	/**
+	Performs one operation of whichever benchmark this instance was set up for.
+	*/
+	private void operation() {
+		if (_index != null) {
+			_index.query(_queryY - PlatformType.getMaxHeight(), _queryY + Constants.DOODLE_FIT_HEIGHT);
+			_sink = _sink + _index.getQueryEnd() - _index.getQueryStart();
+			return;
+		}
+		if (_world.getGameStatus() == "OVER") {
+			this.setUpWorld(_extraHazards.length, _relaunch);
+		}
+		SimpleBot.steer(_world, _input);
+		if (_relaunch && _world.getVelocity() > 0 && _world.getPlayStatus() == "PLAYING") {
+			//A rocket right on the doodle is taken up (and removed) in the step that follows
+			_rocket.setPosition(_world.getDoodleX(), _world.getDoodleY());
+			_world.getHazards().add(_rocket);
+		}
+		_world.step(DT, _input);
+		this.keepHazardsLive();
+	}
+
+	/**
+	Moves the extra hazards to the middle of the screen, so they are never scrolled away and their number stays
+	constant.
+	*/
+	private void keepHazardsLive() {
+		for (int i = 0; i < _extraHazards.length; i++) {
+			_extraHazards[i].setPosition(_extraHazards[i].getX(), _world.getCameraY() + Constants.SCENE_HEIGHT / 2);
+		}
+	}
+
+	/**
+	Warms up, measures and prints one line of results, followed for World benchmarks by the phase breakdown.
+	*/
+	private void run(String name, String platforms, int hazards, int warmups, int iterations) {
+		for (int i = 0; i < warmups; i++) {
+			this.iteration();
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		double[] rates = new double[iterations];
+		long operations = 0;
+		long nanos = 0;
+		long bytes = -threads.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < iterations; i++) {
+			long start = System.nanoTime();
+			long count = this.iteration();
+			long elapsed = System.nanoTime() - start;
+			rates[i] = count / (elapsed / 1e9);
+			operations = operations + count;
+			nanos = nanos + elapsed;
+		}
+		bytes = bytes + threads.getThreadAllocatedBytes(thread);
+		double mean = 0;
+		for (double rate : rates) {
+			mean = mean + rate / iterations;
+		}
+		double spread = 0;
+		for (double rate : rates) {
+			spread = Math.max(spread, Math.abs(rate - mean));
+		}
+		System.out.println(String.format("%-8s %9s %7d %16.1f %12.1f %10.3f %10.3f", name, platforms, hazards,
+				mean, spread, (double) bytes / operations, bytes / (nanos / 1e9) / (1024 * 1024)));
+		if (_world != null) {
+			_timing = true;
+			_world.getPhaseTimer().setEnabled(true);
+			this.iteration();
+			PhaseTimer phaseTimer = _world.getPhaseTimer();
+			System.out.println(String.format(
+					"%28s physics %.0f ns, collision %.0f ns, scroll %.0f ns, generate %.0f ns", "",
+					phaseTimer.getAverageNanos(PhaseTimer.PHYSICS),
+					phaseTimer.getAverageNanos(PhaseTimer.COLLISION), phaseTimer.getAverageNanos(PhaseTimer.SCROLL),
+					phaseTimer.getAverageNanos(PhaseTimer.GENERATE)));
+		}
+	}
+
+	/**
+	Runs operations in batches for one second, returning how many were run.
+	*/
+	private long iteration() {
+		long end = System.nanoTime() + 1000000000L;
+		long count = 0;
+		while (System.nanoTime() < end) {
+			for (int i = 0; i < BATCH; i++) {
+				this.operation();
+			}
+			count = count + BATCH;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,88 @@
+package DoodleJump;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+/**
+WorldCanvas is the immediate-mode alternative to the node-based view of the world. Instead of keeping one ImageView
+per platform and hazard in the scene graph, it redraws every visible platform and hazard onto a single Canvas each
+frame, straight from the World's state and the regions of the SpriteAtlas. The scene graph then holds one node however
+many entities are live, so there is nothing to keep in sync and no per-entity CSS or layout work. It is used when
+Constants.RENDER_MODE is "CANVAS", and for the second round of each "COMPARE" pair.
+*/
+public class WorldCanvas {
+	private Canvas _canvas;
+	private GraphicsContext _context;
+
+	/**
+	Constructor that creates a screen-sized canvas.
+	*/
+	public WorldCanvas() {
+		_canvas = new Canvas(Constants.SCENE_WIDTH, Constants.SCENE_HEIGHT);
+		_context = _canvas.getGraphicsContext2D();
+	}
+
+	/**
+	Accessor method that returns the canvas, to be added to the root pane.
+	*/
+	public Canvas getCanvas() {
+		return _canvas;
+	}
+
+	/**
+	Clears the canvas and draws the world as seen from the camera position passed in (the world y at the top of the
+	screen). Vanished platforms and anything wholly off screen are skipped.
+	*/
+	public void render(World world, double cameraY) {
+		_context.clearRect(0, 0, Constants.SCENE_WIDTH, Constants.SCENE_HEIGHT);
+		PlatformStore platforms = world.getPlatforms();
+		for (int i = 0; i < platforms.size(); i++) {
+			double y = platforms.getY(i) - cameraY;
+			if (platforms.isAlive(i) && y < Constants.SCENE_HEIGHT && y + platforms.getHeight(i) > 0) {
+				this.draw(platforms.getType(i).getSprite(), platforms.getX(i), y, platforms.getWidth(i), 0);
+			}
+		}
+		HazardStore hazards = world.getHazards();
+		for (int kind = 0; kind < HazardStore.KIND_COUNT; kind++) {
+			for (int i = 0; i < hazards.size(kind); i++) {
+				Hazard hazard = hazards.get(kind, i);
+				double y = hazard.getY() - cameraY;
+				if (y < Constants.SCENE_HEIGHT && y + hazard.getHeight() > 0) {
+					this.draw(hazard.getSprite(), hazard.getX(), y, hazard.getWidth(), hazard.getRotate());
+				}
+			}
+		}
+	}
+
+	/**
+	Draws the atlas region of the sprite loaded from the given path with its upper left corner at (x, y), scaled to the
+	width passed in with its aspect ratio preserved (as the ImageViews do) and rotated about its center by the given
+	number of degrees.
+	*/
+	private void draw(String path, double x, double y, double width, double rotate) {
+		Image image;
+		Rectangle2D region;
+		if (SpriteAtlas.isReady()) {
+			image = SpriteAtlas.getImage();
+			region = SpriteAtlas.getRegion(path);
+		} else {
+			//Until the atlas is published, each sprite is drawn on its own
+			image = SpriteAtlas.getSprite(path);
+			region = new Rectangle2D(0, 0, image.getWidth(), image.getHeight());
+		}
+		double height = width * region.getHeight() / region.getWidth();
+		if (rotate == 0) {
+			_context.drawImage(image, region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight(), x, y,
+					width, height);
+			return;
+		}
+		_context.save();
+		_context.translate(x + width / 2, y + height / 2);
+		_context.rotate(rotate);
+		_context.drawImage(image, region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight(),
+				-width / 2, -height / 2, width, height);
+		_context.restore();
+	}
+}
@@ -0,0 +1,30 @@
+package DoodleJump;
+
+/**
+WorldInput carries the player's intent into a World step. It currently holds only the lateral direction ("LEFT",
+"RIGHT" or null for none), which is the same direction string used by the lateral move handlers.
+*/
+public class WorldInput {
+	private String _direction;
+
+	/**
+	Constructor that starts with no direction held.
+	*/
+	public WorldInput() {
+		_direction = null;
+	}
+
+	/**
+	Accessor method that returns the lateral direction held, or null if none.
+	*/
+	public String getDirection() {
+		return _direction;
+	}
+
+	/**
+	Mutator method that sets the lateral direction held ("LEFT", "RIGHT" or null).
+	*/
+	public void setDirection(String direction) {
+		_direction = direction;
+	}
+}
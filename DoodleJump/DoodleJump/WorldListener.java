@@ -0,0 +1,57 @@
+package DoodleJump;
+
+/**
+WorldListener is notified by the World of the one-off events a view has to react to - elements appearing and
+disappearing, rocket launches and landings, and the end of the game. Continuous state (positions, velocity, score)
+is read from the World after each step instead. Platforms are reported by the id the PlatformStore gave them, which
+a view can use to keep its own object for each live platform.
+*/
+public interface WorldListener {
+
+	/**
+	Called when a new platform has been generated, with its id, the world position of its upper left corner and its
+	type.
+	*/
+	public void platformAdded(int id, double x, double y, PlatformType type);
+
+	/**
+	Called when a platform has scrolled off the bottom of the screen and been discarded.
+	*/
+	public void platformRemoved(int id);
+
+	/**
+	Called when a shaky platform vanishes at impact.
+	*/
+	public void platformVanished(int id);
+
+	/**
+	Called when a black hole, rocket or monster has been added.
+	*/
+	public void hazardAdded(Hazard hazard);
+
+	/**
+	Called when a black hole, rocket or monster has been discarded.
+	*/
+	public void hazardRemoved(Hazard hazard);
+
+	/**
+	Called when the doodle runs into a black hole, monster or rocket and it takes effect (a launched doodle passes
+	through black holes and monsters unharmed), before any of the events that follow from it.
+	*/
+	public void hazardHit(Hazard hazard);
+
+	/**
+	Called when the doodle grabs a rocket.
+	*/
+	public void rocketLaunched();
+
+	/**
+	Called when a launched doodle starts falling again.
+	*/
+	public void rocketLanded();
+
+	/**
+	Called once when the game ends, with the cause ("BLACK_HOLE" or "FALL").
+	*/
+	public void gameOver(String cause);
+}